@@ -0,0 +1,118 @@
+/*
+ * File: AsyncNamedCacheBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.benchmarks;
+
+
+import com.tangosol.internal.util.processor.CacheProcessors;
+
+import com.tangosol.util.aggregator.Count;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Baseline benchmarks that call the raw {@code AsyncNamedCache} API, to be
+ * compared with {@link RxNamedCacheBenchmark}.
+ *
+ * @author agent  2026.10.16
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AsyncNamedCacheBenchmark
+    {
+    @Benchmark
+    public Integer get(CacheState state)
+            throws InterruptedException, ExecutionException
+        {
+        return state.m_asyncCache.get(state.randomKey()).get();
+        }
+
+    @Benchmark
+    public void put(CacheState state)
+            throws InterruptedException, ExecutionException
+        {
+        Integer key = state.randomKey();
+
+        state.m_asyncCache.put(key, key).get();
+        }
+
+    @Benchmark
+    public void getAll(CacheState state, Blackhole blackhole)
+            throws InterruptedException, ExecutionException
+        {
+        consume(state.m_asyncCache.getAll(state.randomKeys()).get(), blackhole);
+        }
+
+    @Benchmark
+    public void putAll(CacheState state)
+            throws InterruptedException, ExecutionException
+        {
+        state.m_asyncCache.putAll(state.randomEntries()).get();
+        }
+
+    @Benchmark
+    public void entrySet(CacheState state, Blackhole blackhole)
+            throws InterruptedException, ExecutionException
+        {
+        for (Map.Entry<Integer, Integer> entry : state.m_asyncCache.entrySet(state.m_filter).get())
+            {
+            blackhole.consume(entry);
+            }
+        }
+
+    @Benchmark
+    public Integer aggregate(CacheState state)
+            throws InterruptedException, ExecutionException
+        {
+        return state.m_asyncCache.aggregate(state.m_filter, new Count<>()).get();
+        }
+
+    @Benchmark
+    public void invokeAll(CacheState state, Blackhole blackhole)
+            throws InterruptedException, ExecutionException
+        {
+        consume(state.m_asyncCache.invokeAll(state.randomKeys(), CacheProcessors.get()).get(), blackhole);
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static void consume(Map<?, ?> map, Blackhole blackhole)
+        {
+        for (Map.Entry<?, ?> entry : map.entrySet())
+            {
+            blackhole.consume(entry);
+            }
+        }
+    }
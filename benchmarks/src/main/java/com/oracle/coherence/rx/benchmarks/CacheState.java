@@ -0,0 +1,178 @@
+/*
+ * File: CacheState.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.benchmarks;
+
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filter;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.LessFilter;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Benchmark state that starts a storage-enabled cluster member within the
+ * benchmark JVM and populates the benchmark cache.
+ *
+ * @author agent  2026.10.16
+ */
+@State(Scope.Benchmark)
+public class CacheState
+    {
+    // ---- lifecycle -------------------------------------------------------
+
+    /**
+     * Join the cluster as a storage-enabled member and populate the cache.
+     */
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup()
+        {
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.ttl", "0");
+        System.setProperty("coherence.distributed.localstorage", "true");
+        System.setProperty("coherence.log.level", "1");
+
+        NamedCache<Integer, Integer> cache = CacheFactory.getCache("benchmark");
+
+        cache.clear();
+
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < cEntries; i++)
+            {
+            map.put(i, i);
+            if (map.size() == 1000)
+                {
+                cache.putAll(map);
+                map.clear();
+                }
+            }
+        cache.putAll(map);
+
+        m_cache      = cache;
+        m_asyncCache = cache.async();
+        m_filter     = new LessFilter(IdentityExtractor.INSTANCE, cEntries * nSelectivity / 100);
+        }
+
+    /**
+     * Leave the cluster.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+        {
+        CacheFactory.shutdown();
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Return a random existing key.
+     *
+     * @return a random existing key
+     */
+    public Integer randomKey()
+        {
+        return ThreadLocalRandom.current().nextInt(cEntries);
+        }
+
+    /**
+     * Return a set of {@link #cBatch} random existing keys.
+     *
+     * @return a set of random existing keys
+     */
+    public Set<Integer> randomKeys()
+        {
+        Set<Integer> setKeys = new HashSet<>(cBatch);
+        while (setKeys.size() < cBatch)
+            {
+            setKeys.add(randomKey());
+            }
+        return setKeys;
+        }
+
+    /**
+     * Return a map of {@link #cBatch} random existing keys to new values.
+     *
+     * @return a map of random existing keys to new values
+     */
+    public Map<Integer, Integer> randomEntries()
+        {
+        Map<Integer, Integer> map = new HashMap<>(cBatch);
+        for (Integer key : randomKeys())
+            {
+            map.put(key, key);
+            }
+        return map;
+        }
+
+    // ---- parameters ------------------------------------------------------
+
+    /**
+     * The number of entries in the cache.
+     */
+    @Param("100000")
+    public int cEntries;
+
+    /**
+     * The number of entries used by key-based bulk operations.
+     */
+    @Param("100")
+    public int cBatch;
+
+    /**
+     * The percentage of entries selected by filter-based operations.
+     */
+    @Param("1")
+    public int nSelectivity;
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The benchmark cache.
+     */
+    public NamedCache<Integer, Integer> m_cache;
+
+    /**
+     * The asynchronous view of the benchmark cache.
+     */
+    public AsyncNamedCache<Integer, Integer> m_asyncCache;
+
+    /**
+     * The filter used by filter-based operations.
+     */
+    public Filter m_filter;
+    }
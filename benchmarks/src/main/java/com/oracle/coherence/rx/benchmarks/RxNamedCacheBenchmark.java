@@ -0,0 +1,138 @@
+/*
+ * File: RxNamedCacheBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.benchmarks;
+
+
+import com.oracle.coherence.rx.RxNamedCache;
+import com.oracle.coherence.rx.RxNamedCacheOptions;
+
+import com.tangosol.internal.util.processor.CacheProcessors;
+
+import com.tangosol.util.aggregator.Count;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks that call the cache through {@code RxNamedCacheImpl}, to be
+ * compared with {@link AsyncNamedCacheBenchmark}.
+ *
+ * @author agent  2026.10.16
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RxNamedCacheBenchmark
+    {
+    @Benchmark
+    public Integer get(CacheState state, RxState rx)
+        {
+        return rx.m_rxCache.get(state.randomKey()).toBlocking().single();
+        }
+
+    @Benchmark
+    public Void put(CacheState state, RxState rx)
+        {
+        Integer key = state.randomKey();
+
+        return rx.m_rxCache.put(key, key).toBlocking().lastOrDefault(null);
+        }
+
+    @Benchmark
+    public void getAll(CacheState state, RxState rx, Blackhole blackhole)
+        {
+        rx.m_rxCache.getAll(state.randomKeys()).toBlocking().forEach(blackhole::consume);
+        }
+
+    @Benchmark
+    public Void putAll(CacheState state, RxState rx)
+        {
+        return rx.m_rxCache.putAll(state.randomEntries()).toBlocking().lastOrDefault(null);
+        }
+
+    @Benchmark
+    public void entrySet(CacheState state, RxState rx, Blackhole blackhole)
+        {
+        rx.m_rxCache.entrySet(state.m_filter).toBlocking().forEach(blackhole::consume);
+        }
+
+    @Benchmark
+    public Integer aggregate(CacheState state, RxState rx)
+        {
+        return rx.m_rxCache.aggregate(state.m_filter, new Count<>()).toBlocking().single();
+        }
+
+    @Benchmark
+    public void invokeAll(CacheState state, RxState rx, Blackhole blackhole)
+        {
+        rx.m_rxCache.invokeAll(state.randomKeys(), CacheProcessors.get()).toBlocking().forEach(blackhole::consume);
+        }
+
+    // ---- inner class: RxState --------------------------------------------
+
+    /**
+     * Benchmark state that creates the {@link RxNamedCache} to benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class RxState
+        {
+        /**
+         * Create the RxNamedCache for the benchmark cache.
+         *
+         * @param state  the benchmark cache state
+         */
+        @Setup(Level.Trial)
+        public void setup(CacheState state)
+            {
+            RxNamedCacheOptions options = fStreaming
+                                          ? RxNamedCacheOptions.DEFAULT.withStreaming(state.cBatch)
+                                          : RxNamedCacheOptions.DEFAULT;
+
+            m_rxCache = RxNamedCache.rx(state.m_asyncCache, options);
+            }
+
+        /**
+         * Flag specifying whether to benchmark streaming mode.
+         */
+        @Param({"false", "true"})
+        public boolean fStreaming;
+
+        /**
+         * The RxNamedCache to benchmark.
+         */
+        public RxNamedCache<Integer, Integer> m_rxCache;
+        }
+    }
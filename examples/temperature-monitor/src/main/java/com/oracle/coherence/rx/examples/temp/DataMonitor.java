@@ -20,9 +20,20 @@
 package com.oracle.coherence.rx.examples.temp;
 
 import com.oracle.coherence.rx.ObservableMapListener;
+import com.oracle.coherence.rx.RxNamedCache;
 
 import com.tangosol.net.NamedCache;
 import com.tangosol.util.UUID;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.DoubleAverage;
+
+import com.tangosol.util.extractor.ReflectionExtractor;
+
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.MapEventFilter;
+
+import rx.schedulers.Schedulers;
 
 import javax.swing.JComponent;
 import javax.swing.JFrame;
@@ -30,6 +41,7 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
 import java.awt.BorderLayout;
@@ -40,9 +52,12 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static com.oracle.coherence.rx.RxNamedCache.rx;
+
 import static com.oracle.coherence.rx.examples.temp.Utilities.getDeviceIndex;
 import static com.oracle.coherence.rx.examples.temp.Utilities.getDeviceName;
 import static com.oracle.coherence.rx.examples.temp.Utilities.getTextField;
@@ -88,44 +103,58 @@ public class DataMonitor
         // create a new ObservableMapLister which is a hot observable
         m_listener = ObservableMapListener.create();
 
-        // subscribe to get the current temperature
-        m_listener.map(entry -> entry.getNewEntry().getValue())
-                .subscribe(value ->
-                    {
-                    updateTemp(value);
-                    txtProcessed.setText(String.format("%,d", f_counter.incrementAndGet()));
-                    });
+        // subscribe to count the readings
+        m_listener.subscribe(entry -> txtProcessed.setText(String.format("%,d", f_counter.incrementAndGet())));
+
+        // subscribe to get the current temperature; only the latest reading for
+        // each device is kept while the UI thread is busy
+        m_listener.conflated(entry -> entry.getNewEntry().getValue().getDeviceId())
+                .observeOn(Schedulers.from(SwingUtilities::invokeLater))
+                .subscribe(entry -> updateTemp(entry.getNewEntry().getValue()));
+
+        // get an average of the readings for each device over the last 15 and
+        // 30 seconds; the averages are calculated by the storage members, so
+        // only one result per device is sent to the client for each window, and
+        // the text fields are updated on the UI thread
+        ValueExtractor<DeviceReading, String> deviceId    = new ReflectionExtractor<>("getDeviceId");
+        ValueExtractor<DeviceReading, Long>   timestamp   = new ReflectionExtractor<>("getTimeStamp");
+        ValueExtractor<DeviceReading, Number> temperature = new ReflectionExtractor<>("getTemperature");
+
+        RxNamedCache<UUID, DeviceReading> rxCache = rx(f_cache);
+
+        rxCache.window(null, deviceId, timestamp, new DoubleAverage<>(temperature), 15, 15, TimeUnit.SECONDS)
+                .observeOn(Schedulers.from(SwingUtilities::invokeLater))
+                .subscribe(mapAverages -> updateAverages(atxtAvgLast15Seconds, mapAverages));
+
+        rxCache.window(null, deviceId, timestamp, new DoubleAverage<>(temperature), 30, 30, TimeUnit.SECONDS)
+                .observeOn(Schedulers.from(SwingUtilities::invokeLater))
+                .subscribe(mapAverages -> updateAverages(atxtAvgLast30Seconds, mapAverages));
 
         // add subscribers for each of the gauges
         for (int i = 0; i < Utilities.GAUGES; i++)
             {
             final int nIndex = i;
-            final String device = getDeviceName(i);
 
-            // get an average of the last 15 seconds of readings for each device
-            m_listener.map(entry -> entry.getNewEntry().getValue())
-                .filter(reading -> reading.getDeviceId().equals(device))
-                .map(DeviceReading::getTemperature)
-                .buffer(15, TimeUnit.SECONDS)
-                .subscribe(list -> atxtAvgLast15Seconds[nIndex].setText(String.format(FORMAT, getAverage(list))));
-
-            // get an average of the last 30 seconds of readings for each device
-            m_listener.map(entry -> entry.getNewEntry().getValue())
-                .filter(reading -> reading.getDeviceId().equals(device))
-                .map(DeviceReading::getTemperature)
-                .buffer(30, TimeUnit.SECONDS)
-                .subscribe(list -> atxtAvgLast30Seconds[nIndex].setText(String.format(FORMAT, getAverage(list))));
+            // create a listener that only receives the readings for this device;
+            // the filter is evaluated on the storage members, so the readings for
+            // other devices are never sent to this one
+            ObservableMapListener<UUID, DeviceReading> listener = ObservableMapListener.create(
+                    new MapEventFilter(MapEventFilter.E_INSERTED, new EqualsFilter(deviceId, getDeviceName(i))));
+            m_aDeviceListeners[i] = listener;
 
             // get an average of the last 60 seconds of readings for each device
-            m_listener.map(entry -> entry.getNewEntry().getValue())
-                .filter(reading -> reading.getDeviceId().equals(device))
+            listener.map(entry -> entry.getNewEntry().getValue())
                 .map(DeviceReading::getTemperature)
                 .buffer(60, TimeUnit.SECONDS)
                 .subscribe(list -> updateTrends(nIndex, list));
             }
 
-        // adding the listener will tigger the above subscriptions
+        // adding the listeners will tigger the above subscriptions
         f_cache.addMapListener(m_listener);
+        for (ObservableMapListener<UUID, DeviceReading> listener : m_aDeviceListeners)
+            {
+            listener.addTo(f_cache);
+            }
         }
 
     /**
@@ -146,6 +175,10 @@ public class DataMonitor
                 if (f_cache != null && m_listener != null)
                 {
                     f_cache.removeMapListener(m_listener);
+                    for (ObservableMapListener<UUID, DeviceReading> listener : m_aDeviceListeners)
+                    {
+                        listener.removeFrom(f_cache);
+                    }
                 }
                 System.exit(0);
             }
@@ -260,6 +293,21 @@ public class DataMonitor
             }
         }
 
+    /**
+     * Update the average temperatures displayed in the specified text fields.
+     *
+     * @param atxtAverages  the text fields to update, indexed by device
+     * @param mapAverages   the average temperatures, keyed by device id
+     */
+    private void updateAverages(JTextField[] atxtAverages, Map<String, Double> mapAverages)
+        {
+        for (int i = 0; i < Utilities.GAUGES; i++)
+            {
+            Double average = mapAverages.get(getDeviceName(i));
+            atxtAverages[i].setText(String.format(FORMAT, average == null ? 0.0f : average.floatValue()));
+            }
+        }
+
     /**
      * Update the device temperature and change colors to indicate
      * temperature severity.
@@ -381,6 +429,14 @@ public class DataMonitor
      */
     private ObservableMapListener<UUID, DeviceReading> m_listener;
 
+    /**
+     * Hot {@link ObservableMapListener}s added to the cache for each of the
+     * devices, with a filter that only matches the readings for that device.
+     */
+    @SuppressWarnings("unchecked")
+    private ObservableMapListener<UUID, DeviceReading>[] m_aDeviceListeners =
+            new ObservableMapListener[Utilities.GAUGES];
+
     /**
      * Cache to read data from.
      */
@@ -0,0 +1,195 @@
+/*
+ * File: FlowableNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.flowable;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.GreaterEqualsFilter;
+
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.oracle.coherence.rx.flowable.FlowableNamedCache.flowable;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for FlowableNamedCache class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class FlowableNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testGet()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = flowable(cache);
+
+        cache.put(1, 1);
+
+        assertEquals(1, (int) fCache.get(1).blockingGet());
+        assertNull(fCache.get(2).blockingGet());
+        assertTrue(fCache.containsKey(1).blockingGet());
+        assertFalse(fCache.containsKey(2).blockingGet());
+        assertEquals(5, (int) fCache.getOrDefault(2, 5).blockingGet());
+        }
+
+    @Test
+    public void testPutAndRemove()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = flowable(cache);
+
+        fCache.put(1, 1).blockingAwait();
+        assertEquals(1, (int) cache.get(1));
+
+        assertEquals(1, (int) fCache.remove(1).blockingGet());
+        assertNull(fCache.remove(1).blockingGet());
+        assertTrue(fCache.isEmpty().blockingGet());
+        }
+
+    @Test
+    public void testPutAllAndSize()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = flowable(cache);
+
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 100; i++)
+            {
+            map.put(i, i);
+            }
+
+        fCache.putAll(map).blockingAwait();
+        assertEquals(100, (int) fCache.size().blockingGet());
+
+        fCache.removeAll(new GreaterEqualsFilter<>(IdentityExtractor.INSTANCE, 50)).blockingAwait();
+        assertEquals(50, (int) fCache.size().blockingGet());
+
+        fCache.clear().blockingAwait();
+        assertTrue(cache.isEmpty());
+        }
+
+    @Test
+    public void testValuesWithBackpressure()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = flowable(cache);
+
+        List<Integer> listExpected = populate(cache, 1000);
+
+        TestSubscriber<Integer> subscriber = fCache.values().test(0L);
+        subscriber.assertNoValues();
+
+        subscriber.request(10L);
+        subscriber.awaitCount(10);
+        assertEquals(10, subscriber.values().size());
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitDone(10, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+
+        List<Integer> listActual = new ArrayList<>(subscriber.values());
+        listActual.sort(null);
+        assertEquals(listExpected, listActual);
+        }
+
+    @Test
+    public void testInvokeAllWithKeyBatches()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = FlowableNamedCache.flowable(cache.async(), 3, 1, 0);
+
+        populate(cache, 10);
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+                     fCache.getAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+                             .map(Map.Entry::getValue)
+                             .toSortedList()
+                             .blockingGet());
+        }
+
+    @Test
+    public void testTake()
+        {
+        NamedCache<Integer, Integer>         cache  = getNamedCache();
+        FlowableNamedCache<Integer, Integer> fCache = flowable(cache);
+
+        populate(cache, 1000);
+
+        assertEquals(5L, (long) fCache.keySet().take(5).count().blockingGet());
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static List<Integer> populate(NamedCache<Integer, Integer> cache, int cEntries)
+        {
+        List<Integer> list = new ArrayList<>(cEntries);
+        for (int i = 0; i < cEntries; i++)
+            {
+            cache.put(i, i);
+            list.add(i);
+            }
+        return list;
+        }
+    }
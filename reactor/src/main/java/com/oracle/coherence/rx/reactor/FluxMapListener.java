@@ -0,0 +1,155 @@
+/*
+ * File: FluxMapListener.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.reactor;
+
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+
+import reactor.core.CoreSubscriber;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Set;
+
+import java.util.concurrent.CopyOnWriteArraySet;
+
+
+/**
+ * Flux implementation of a Coherence MapListener.
+ * <p>
+ * This is a 'hot' Flux which will start emitting events as soon as it's
+ * registered with a cache via the {@link NamedCache#addMapListener} method.
+ * Each subscriber receives the events that were raised while it was
+ * subscribed, and events that it hasn't requested yet are buffered on its
+ * behalf, so that a slow subscriber never causes events to be dropped or
+ * other subscribers to be slowed down.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public class FluxMapListener<K, V>
+        extends Flux<MapEvent<K, V>>
+        implements MapListener<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Create FluxMapListener instance.
+     *
+     * @param <K> the type of the entry keys
+     * @param <V> the type of the entry values
+     *
+     * @return a FluxMapListener
+     */
+    public static <K, V> FluxMapListener<K, V> create()
+        {
+        return new FluxMapListener<>(new CopyOnWriteArraySet<>());
+        }
+
+    /**
+     * Construct FluxMapListener instance.
+     *
+     * @param sinks  the set of sinks of the registered subscribers
+     */
+    protected FluxMapListener(Set<FluxSink<MapEvent<K, V>>> sinks)
+        {
+        m_sinks = sinks;
+        f_flux  = Flux.create(sink ->
+                {
+                sink.onDispose(() -> sinks.remove(sink));
+
+                if (!sink.isCancelled())
+                    {
+                    sinks.add(sink);
+                    }
+                }, FluxSink.OverflowStrategy.BUFFER);
+        }
+
+    // ---- Flux methods ----------------------------------------------------
+
+    @Override
+    public void subscribe(CoreSubscriber<? super MapEvent<K, V>> actual)
+        {
+        f_flux.subscribe(actual);
+        }
+
+    // ---- MapListener methods ---------------------------------------------
+
+    /**
+    * Invoked when a map entry has been inserted.
+    *
+    * @param evt  the MapEvent carrying the insert information
+    */
+    public void entryInserted(MapEvent<K, V> evt)
+        {
+        onMapEvent(evt);
+        }
+
+    /**
+    * Invoked when a map entry has been updated.
+    *
+    * @param evt  the MapEvent carrying the update information
+    */
+    public void entryUpdated(MapEvent<K, V> evt)
+        {
+        onMapEvent(evt);
+        }
+
+    /**
+    * Invoked when a map entry has been removed.
+    *
+    * @param evt  the MapEvent carrying the delete information
+    */
+    public void entryDeleted(MapEvent<K, V> evt)
+        {
+        onMapEvent(evt);
+        }
+
+    /**
+     * Invoked when any event is received.
+     * <p>
+     * This method is called internally by the {@link #entryInserted},
+     * {@link #entryUpdated} and {@link #entryDeleted} methods, and is responsible
+     * for propagating received events to all of the subscribers of this flux.
+     *
+     * @param evt  the MapEvent information
+     */
+    protected void onMapEvent(MapEvent<K, V> evt)
+        {
+        m_sinks.forEach(s -> s.next(evt));
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * A set of sinks of the active subscribers.
+     */
+    protected Set<FluxSink<MapEvent<K, V>>> m_sinks;
+
+    /**
+     * The flux that registers the sinks of new subscribers.
+     */
+    protected final Flux<MapEvent<K, V>> f_flux;
+    }
@@ -0,0 +1,430 @@
+/*
+ * File: ReactorNamedCacheImpl.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.reactor;
+
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.PartitionedFilter;
+
+import com.tangosol.util.processor.ConditionalRemove;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+
+/**
+ * Project Reactor {@link NamedCache} API implementation.
+ * <p>
+ * Multi-result operations are executed one batch of keys or one page of
+ * partitions at a time, and the next batch or page is only requested from
+ * the cache once the subscriber has requested the results of the previous
+ * ones (plus the configured read-ahead).
+ *
+ * @author agent  2026.10.16
+ */
+public class ReactorNamedCacheImpl<K, V>
+        implements ReactorNamedCache<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct ReactorNamedCacheImpl instance with default batch size,
+     * page size and read-ahead.
+     *
+     * @param cache the wrapped AsyncNamedCache to delegate invocations to
+     */
+    protected ReactorNamedCacheImpl(AsyncNamedCache<K, V> cache)
+        {
+        this(cache, DEFAULT_BATCH_SIZE, DEFAULT_PAGE_SIZE, DEFAULT_READ_AHEAD);
+        }
+
+    /**
+     * Construct ReactorNamedCacheImpl instance.
+     *
+     * @param cache       the wrapped AsyncNamedCache to delegate invocations to
+     * @param cBatchSize  the maximum number of keys to send to the cache in a
+     *                    single request
+     * @param cPageSize   the number of partitions to query in a single request
+     * @param cReadAhead  the number of batches or pages to fetch ahead of time
+     */
+    protected ReactorNamedCacheImpl(AsyncNamedCache<K, V> cache, int cBatchSize, int cPageSize, int cReadAhead)
+        {
+        if (cBatchSize <= 0)
+            {
+            throw new IllegalArgumentException("batch size must be positive");
+            }
+        if (cPageSize <= 0)
+            {
+            throw new IllegalArgumentException("page size must be positive");
+            }
+        if (cReadAhead < 0)
+            {
+            throw new IllegalArgumentException("read-ahead must not be negative");
+            }
+
+        m_cache      = cache;
+        m_cBatchSize = cBatchSize;
+        m_cPageSize  = cPageSize;
+        m_cReadAhead = cReadAhead;
+        }
+
+    // ---- ReactorNamedCache interface -------------------------------------
+
+    @Override
+    public <R> Mono<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return mono(() -> m_cache.invoke(key, processor));
+        }
+
+    @Override
+    public <R> Flux<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return pageByKeys(collKeys, colPage -> m_cache.invokeAll(colPage, processor));
+        }
+
+    @Override
+    public <R> Flux<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return pageByPartitions(filter, filterPage -> m_cache.invokeAll(filterPage, processor));
+        }
+
+    @Override
+    public <R> Mono<R> aggregate(Collection<? extends K> collKeys,
+                                 InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return mono(() -> m_cache.aggregate(collKeys, aggregator));
+        }
+
+    @Override
+    public <R> Mono<R> aggregate(Filter filter,
+                                 InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return mono(() -> m_cache.aggregate(filter, aggregator));
+        }
+
+    @Override
+    public Mono<Void> putAll(Map<? extends K, ? extends V> map)
+        {
+        return completion(() -> m_cache.putAll(map));
+        }
+
+    @Override
+    public Mono<Void> removeAll(Collection<? extends K> colKeys)
+        {
+        return completion(() -> m_cache.invokeAll(colKeys, blindRemove()));
+        }
+
+    @Override
+    public Mono<Void> removeAll(Filter filter)
+        {
+        return completion(() -> m_cache.invokeAll(filter, blindRemove()));
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return the processor used by {@code removeAll}, typed for the entries
+     * of this cache.
+     *
+     * @param <K>  the type of the entry keys
+     * @param <V>  the type of the entry values
+     *
+     * @return a processor that removes entries without returning results
+     */
+    @SuppressWarnings("unchecked")
+    protected static <K, V> InvocableMap.EntryProcessor<K, V, V> blindRemove()
+        {
+        return (InvocableMap.EntryProcessor<K, V, V>) BLIND_REMOVE;
+        }
+
+    /**
+     * Return a {@link Mono} that executes the asynchronous cache operation
+     * returned by the specified supplier upon subscription, and emits its
+     * result, or completes empty if the result is {@code null}.
+     * <p>
+     * If the subscriber cancels the subscription before the operation
+     * completes, the operation will be cancelled.
+     *
+     * @param <T>       the type of the result
+     * @param supplier  the supplier that starts the cache operation
+     *
+     * @return a {@link Mono} for the result of the cache operation
+     */
+    protected static <T> Mono<T> mono(Supplier<? extends CompletableFuture<? extends T>> supplier)
+        {
+        return Mono.create(sink ->
+                {
+                CompletableFuture<? extends T> future = supplier.get();
+
+                sink.onCancel(() -> cancel(future));
+                future.whenComplete((r, t) ->
+                        {
+                        if (t == null)
+                            {
+                            sink.success(r);
+                            }
+                        else if (!future.isCancelled())
+                            {
+                            sink.error(t);
+                            }
+                        });
+                });
+        }
+
+    /**
+     * Return a {@link Mono} that executes the asynchronous cache operation
+     * returned by the specified supplier upon subscription, and completes
+     * when the operation completes.
+     * <p>
+     * If the subscriber cancels the subscription before the operation
+     * completes, the operation will be cancelled.
+     *
+     * @param supplier  the supplier that starts the cache operation
+     *
+     * @return a {@link Mono} for the completion of the cache operation
+     */
+    protected static Mono<Void> completion(Supplier<? extends CompletableFuture<?>> supplier)
+        {
+        return Mono.create(sink ->
+                {
+                CompletableFuture<?> future = supplier.get();
+
+                sink.onCancel(() -> cancel(future));
+                future.whenComplete((r, t) ->
+                        {
+                        if (t == null)
+                            {
+                            sink.success();
+                            }
+                        else if (!future.isCancelled())
+                            {
+                            sink.error(t);
+                            }
+                        });
+                });
+        }
+
+    /**
+     * Cancel the specified future, unless it has already completed.
+     *
+     * @param future  the future to cancel
+     */
+    protected static void cancel(CompletableFuture<?> future)
+        {
+        if (!future.isDone())
+            {
+            future.cancel(true);
+            }
+        }
+
+    // ---- paging support --------------------------------------------------
+
+    /**
+     * Execute a bulk operation against the specified keys, sending at most
+     * {@link #m_cBatchSize} keys at a time.
+     *
+     * @param <R>       the type of the per-entry results
+     * @param collKeys  the keys to execute the operation against
+     * @param fnFetch   the function that executes the operation against a
+     *                  single batch of keys
+     *
+     * @return a {@link Flux} of the result for each entry
+     */
+    protected <R> Flux<Map.Entry<? extends K, ? extends R>>
+    pageByKeys(Collection<? extends K> collKeys, Function<Collection<? extends K>, CompletableFuture<Map<K, R>>> fnFetch)
+        {
+        List<? extends K> listKeys = new ArrayList<>(collKeys);
+        int               cBatch   = m_cBatchSize;
+        int               cKeys    = listKeys.size();
+        int               cPages   = (cKeys + cBatch - 1) / cBatch;
+
+        return page(cPages, nPage ->
+                {
+                int nFrom = nPage * cBatch;
+                int nTo   = Math.min(nFrom + cBatch, cKeys);
+
+                return fnFetch.apply(listKeys.subList(nFrom, nTo));
+                });
+        }
+
+    /**
+     * Execute a bulk operation against the entries selected by the given
+     * Filter one page of partitions at a time.
+     * <p>
+     * If the cache is not partitioned, the whole result set is fetched using
+     * a single request.
+     *
+     * @param <R>       the type of the per-entry results
+     * @param filter    the Filter that selects the entries to execute the
+     *                  operation against
+     * @param fnFetch   the function that executes the operation against a
+     *                  single page, represented by a Filter
+     *
+     * @return a {@link Flux} of the result for each entry
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> Flux<Map.Entry<? extends K, ? extends R>>
+    pageByPartitions(Filter filter, Function<Filter, CompletableFuture<Map<K, R>>> fnFetch)
+        {
+        int cPartitions = getPartitionCount();
+
+        if (cPartitions == 0)
+            {
+            return page(1, nPage -> fnFetch.apply(filter));
+            }
+
+        int cPageSize = Math.min(m_cPageSize, cPartitions);
+        int cPages    = (cPartitions + cPageSize - 1) / cPageSize;
+
+        return page(cPages, nPage ->
+                fnFetch.apply(new PartitionedFilter(filter, getPartitions(nPage, cPageSize, cPartitions))));
+        }
+
+    /**
+     * Fetch the specified number of pages in order, and emit the entries
+     * they contain.
+     * <p>
+     * At most {@code 1 + }{@link #m_cReadAhead} pages are fetched or buffered
+     * at any given time, and the next page is only fetched once all the
+     * entries of a previously fetched one have been requested downstream.
+     * Cancelling the subscription cancels the pages that are in flight.
+     *
+     * @param <R>      the type of the per-entry results
+     * @param cPages   the number of pages
+     * @param fnFetch  the function that fetches the page with a given index
+     *
+     * @return a {@link Flux} of the entries contained in all the pages
+     */
+    protected <R> Flux<Map.Entry<? extends K, ? extends R>>
+    page(int cPages, IntFunction<CompletableFuture<Map<K, R>>> fnFetch)
+        {
+        return Flux.range(0, cPages)
+                .flatMapSequential(nPage -> mono(() -> fnFetch.apply(nPage)), 1 + m_cReadAhead, 1)
+                .concatMapIterable(Map::entrySet, 1);
+        }
+
+    /**
+     * Return the set of partitions that belong to the specified page.
+     *
+     * @param nPage        the page index
+     * @param cPageSize    the number of partitions per page
+     * @param cPartitions  the partition count
+     *
+     * @return the set of partitions that belong to the specified page
+     */
+    protected static PartitionSet getPartitions(int nPage, int cPageSize, int cPartitions)
+        {
+        PartitionSet parts = new PartitionSet(cPartitions);
+        int          nFrom = nPage * cPageSize;
+        int          nTo   = Math.min(nFrom + cPageSize, cPartitions);
+
+        for (int nPart = nFrom; nPart < nTo; nPart++)
+            {
+            parts.add(nPart);
+            }
+
+        return parts;
+        }
+
+    /**
+     * Return the partition count of the underlying cache service, or zero
+     * if the cache is not partitioned.
+     *
+     * @return the partition count of the underlying cache service
+     */
+    protected int getPartitionCount()
+        {
+        CacheService service = m_cache.getNamedCache().getCacheService();
+
+        return service instanceof PartitionedService
+               ? ((PartitionedService) service).getPartitionCount()
+               : 0;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The default maximum number of keys per request.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The default number of partitions per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1;
+
+    /**
+     * The default number of batches or pages to fetch ahead of time.
+     */
+    public static final int DEFAULT_READ_AHEAD = 1;
+
+    /**
+     * The processor used by {@code removeAll}; {@link ConditionalRemove}
+     * created with {@code fReturn == false} only reports the entries it failed
+     * to remove, and {@link AlwaysFilter} never fails, so no per-entry results
+     * are sent back to the caller.
+     */
+    protected static final InvocableMap.EntryProcessor<?, ?, ?> BLIND_REMOVE =
+            new ConditionalRemove<>(AlwaysFilter.INSTANCE);
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The wrapped AsyncNamedCache instance to delegate invocations to.
+     */
+    protected final AsyncNamedCache<K, V> m_cache;
+
+    /**
+     * The maximum number of keys per request.
+     */
+    protected final int m_cBatchSize;
+
+    /**
+     * The number of partitions per page.
+     */
+    protected final int m_cPageSize;
+
+    /**
+     * The number of batches or pages to fetch ahead of time.
+     */
+    protected final int m_cReadAhead;
+    }
@@ -0,0 +1,221 @@
+/*
+ * File: ReactorNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx.reactor;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.MapEvent;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.oracle.coherence.rx.reactor.ReactorNamedCache.reactor;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for ReactorNamedCache class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class ReactorNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testGet()
+        {
+        NamedCache<Integer, Integer>        cache  = getNamedCache();
+        ReactorNamedCache<Integer, Integer> rCache = reactor(cache);
+
+        cache.put(1, 1);
+
+        assertEquals(1, (int) rCache.get(1).block());
+        assertNull(rCache.get(2).block());
+        assertTrue(rCache.containsKey(1).block());
+        assertFalse(rCache.containsKey(2).block());
+        assertEquals(5, (int) rCache.getOrDefault(2, 5).block());
+        }
+
+    @Test
+    public void testPutAllAndSize()
+        {
+        NamedCache<Integer, Integer>        cache  = getNamedCache();
+        ReactorNamedCache<Integer, Integer> rCache = reactor(cache);
+
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 100; i++)
+            {
+            map.put(i, i);
+            }
+
+        rCache.putAll(map).block();
+        assertEquals(100, (int) rCache.size().block());
+
+        assertEquals(1, (int) rCache.remove(1).block());
+        assertEquals(99, (int) rCache.size().block());
+
+        rCache.clear().block();
+        assertTrue(rCache.isEmpty().block());
+        }
+
+    @Test
+    public void testValuesWithDemand()
+            throws InterruptedException
+        {
+        NamedCache<Integer, Integer>        cache  = getNamedCache();
+        ReactorNamedCache<Integer, Integer> rCache = reactor(cache);
+
+        List<Integer> listExpected = populate(cache, 1000);
+        List<Integer> listActual   = new ArrayList<>();
+
+        CountDownLatch latchFirst = new CountDownLatch(10);
+        CountDownLatch latchDone  = new CountDownLatch(1);
+
+        BaseSubscriber<Integer> subscriber = new BaseSubscriber<Integer>()
+            {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription)
+                {
+                subscription.request(10L);
+                }
+
+            @Override
+            protected void hookOnNext(Integer value)
+                {
+                listActual.add(value);
+                latchFirst.countDown();
+                }
+
+            @Override
+            protected void hookOnComplete()
+                {
+                latchDone.countDown();
+                }
+            };
+
+        rCache.values().subscribe(subscriber);
+
+        assertTrue(latchFirst.await(10, TimeUnit.SECONDS));
+        assertFalse(latchDone.await(100, TimeUnit.MILLISECONDS));
+        assertEquals(10, listActual.size());
+
+        subscriber.requestUnbounded();
+        assertTrue(latchDone.await(10, TimeUnit.SECONDS));
+
+        listActual.sort(null);
+        assertEquals(listExpected, listActual);
+        }
+
+    @Test
+    public void testInvokeAllWithKeyBatches()
+        {
+        NamedCache<Integer, Integer>        cache  = getNamedCache();
+        ReactorNamedCache<Integer, Integer> rCache = ReactorNamedCache.reactor(cache.async(), 3, 1, 0);
+
+        populate(cache, 10);
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+                     rCache.getAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+                             .map(Map.Entry::getValue)
+                             .collectSortedList()
+                             .block());
+        }
+
+    @Test
+    public void testMapListener()
+            throws Exception
+        {
+        NamedCache<Integer, Integer>      cache    = getNamedCache();
+        FluxMapListener<Integer, Integer> listener = FluxMapListener.create();
+
+        cache.addMapListener(listener);
+        try
+            {
+            CompletableFuture<List<Integer>> future = listener.map(MapEvent::getKey)
+                    .take(3)
+                    .collectList()
+                    .toFuture();
+
+            populate(cache, 3);
+
+            assertEquals(Arrays.asList(0, 1, 2), future.get(10, TimeUnit.SECONDS));
+            }
+        finally
+            {
+            cache.removeMapListener(listener);
+            }
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static List<Integer> populate(NamedCache<Integer, Integer> cache, int cEntries)
+        {
+        List<Integer> list = new ArrayList<>(cEntries);
+        for (int i = 0; i < cEntries; i++)
+            {
+            cache.put(i, i);
+            list.add(i);
+            }
+        return list;
+        }
+    }
@@ -0,0 +1,313 @@
+/*
+ * File: AdaptiveBatcher.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Observable;
+import rx.Subscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * An {@link Observable.Operator} that groups the items emitted by the source
+ * observable into batches whose size adapts to the load.
+ * <p>
+ * Whenever the subscriber requests another batch, all the items that have
+ * been received since the previous batch was emitted, up to the configured
+ * maximum batch size, are emitted immediately as the next batch. If there are
+ * no such items, the next batch is emitted as soon as an item arrives. This
+ * means that when the subscriber keeps up with the source, items are passed
+ * through with minimal latency in small batches, and when it falls behind,
+ * the batches grow up to the maximum size, which reduces the number of
+ * requests required to process the same number of items.
+ * <p>
+ * At most {@code cMaxBatch} items are ever requested from the source ahead
+ * of the subscriber's demand, so the number of buffered items is bounded.
+ *
+ * @param <T> the type of the batched items
+ *
+ * @author agent  2026.10.16
+ */
+public class AdaptiveBatcher<T>
+        implements Observable.Operator<List<T>, T>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct AdaptiveBatcher instance.
+     *
+     * @param cMaxBatch  the maximum number of items in a single batch
+     */
+    public AdaptiveBatcher(int cMaxBatch)
+        {
+        if (cMaxBatch <= 0)
+            {
+            throw new IllegalArgumentException("batch size must be positive");
+            }
+
+        f_cMaxBatch = cMaxBatch;
+        }
+
+    // ---- Observable.Operator interface -----------------------------------
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super List<T>> child)
+        {
+        BatchingSubscriber parent = new BatchingSubscriber(child);
+
+        child.add(parent);
+        child.setProducer(parent::requestBatches);
+
+        return parent;
+        }
+
+    // ---- inner class: BatchingSubscriber ---------------------------------
+
+    /**
+     * The upstream subscriber that collects items and emits them in batches
+     * as the downstream subscriber requests them.
+     */
+    protected class BatchingSubscriber
+            extends Subscriber<T>
+        {
+        /**
+         * Construct BatchingSubscriber instance.
+         *
+         * @param child  the downstream subscriber
+         */
+        protected BatchingSubscriber(Subscriber<? super List<T>> child)
+            {
+            f_child = child;
+            }
+
+        @Override
+        public void onStart()
+            {
+            drain();
+            }
+
+        @Override
+        public void onNext(T t)
+            {
+            synchronized (this)
+                {
+                f_listPending.add(t);
+                m_cOutstanding--;
+                }
+
+            drain();
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            synchronized (this)
+                {
+                m_fDone = true;
+                }
+
+            drain();
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            synchronized (this)
+                {
+                m_error = e;
+                m_fDone = true;
+                }
+
+            drain();
+            }
+
+        /**
+         * Register the downstream demand for the specified number of batches.
+         *
+         * @param cBatches  the number of batches requested
+         */
+        protected void requestBatches(long cBatches)
+            {
+            if (cBatches > 0)
+                {
+                synchronized (this)
+                    {
+                    long cDemand = m_cDemand + cBatches;
+
+                    m_cDemand = cDemand < 0L ? Long.MAX_VALUE : cDemand;
+                    }
+
+                drain();
+                }
+            }
+
+        /**
+         * Emit as many batches as there is demand and items for, request
+         * more items from the source if there is room for them, and emit the
+         * terminal event once all items have been emitted.
+         * <p>
+         * Only one thread at a time drains; calls made while another thread
+         * is draining are picked up by that thread.
+         */
+        protected void drain()
+            {
+            synchronized (this)
+                {
+                if (m_fEmitting)
+                    {
+                    m_fMissed = true;
+                    return;
+                    }
+                m_fEmitting = true;
+                }
+
+            while (true)
+                {
+                List<T>   listBatch = null;
+                Throwable error     = null;
+                boolean   fComplete = false;
+                long      cRequest  = 0L;
+
+                synchronized (this)
+                    {
+                    int cPending = f_listPending.size();
+
+                    if (m_fTerminated)
+                        {
+                        return;
+                        }
+                    else if (m_error != null)
+                        {
+                        error         = m_error;
+                        m_fTerminated = true;
+                        }
+                    else if (m_cDemand > 0 && cPending > 0)
+                        {
+                        List<T> listHead = f_listPending.subList(0, Math.min(cPending, f_cMaxBatch));
+
+                        listBatch = new ArrayList<>(listHead);
+                        listHead.clear();
+                        if (m_cDemand != Long.MAX_VALUE)
+                            {
+                            m_cDemand--;
+                            }
+                        }
+                    else if (m_fDone && cPending == 0)
+                        {
+                        fComplete     = true;
+                        m_fTerminated = true;
+                        }
+                    else
+                        {
+                        if (!m_fDone)
+                            {
+                            cRequest = Math.max(0L, f_cMaxBatch - cPending - m_cOutstanding);
+                            m_cOutstanding += cRequest;
+                            }
+
+                        if (cRequest == 0L && !m_fMissed)
+                            {
+                            m_fEmitting = false;
+                            return;
+                            }
+                        m_fMissed = false;
+                        }
+                    }
+
+                if (error != null)
+                    {
+                    f_child.onError(error);
+                    return;
+                    }
+                if (fComplete)
+                    {
+                    f_child.onCompleted();
+                    return;
+                    }
+                if (listBatch != null)
+                    {
+                    f_child.onNext(listBatch);
+                    }
+                if (cRequest > 0L)
+                    {
+                    request(cRequest);
+                    }
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The downstream subscriber.
+         */
+        protected final Subscriber<? super List<T>> f_child;
+
+        /**
+         * The items received from the source, but not emitted yet.
+         */
+        protected final List<T> f_listPending = new ArrayList<>();
+
+        /**
+         * The number of items requested from the source, but not received yet.
+         */
+        protected long m_cOutstanding;
+
+        /**
+         * The number of batches requested by the downstream subscriber, but
+         * not emitted yet.
+         */
+        protected long m_cDemand;
+
+        /**
+         * The flag specifying whether the source has terminated.
+         */
+        protected boolean m_fDone;
+
+        /**
+         * The error the source terminated with, if any.
+         */
+        protected Throwable m_error;
+
+        /**
+         * The flag specifying whether the downstream subscriber has been
+         * terminated.
+         */
+        protected boolean m_fTerminated;
+
+        /**
+         * The flag specifying whether a thread is currently draining.
+         */
+        protected boolean m_fEmitting;
+
+        /**
+         * The flag specifying whether {@link #drain()} was called while
+         * another thread was draining.
+         */
+        protected boolean m_fMissed;
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The maximum number of items in a single batch.
+     */
+    protected final int f_cMaxBatch;
+    }
@@ -0,0 +1,573 @@
+/*
+ * File: AggregateCachingRxNamedCache.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListenerSupport;
+import com.tangosol.util.MultiplexingMapListener;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.Count;
+
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.MapEventFilter;
+
+import rx.Observable;
+import rx.Scheduler;
+
+import java.util.Collection;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.LongSupplier;
+
+
+/**
+ * An {@link RxNamedCache} decorator that caches the results of filter-based
+ * {@link #aggregate(Filter, InvocableMap.EntryAggregator) aggregate} calls,
+ * as well as {@link #size} and {@link #isEmpty}, on the client.
+ * <p>
+ * Results are cached per filter and aggregator, so both need to implement
+ * {@code equals} and {@code hashCode} in order for repeated calls to be
+ * served from the cache. When the first result for a filter is cached, a
+ * lite map listener is registered for that filter, and any insert, update
+ * or delete of an entry that matches it, before or after the change,
+ * invalidates all cached results for the filter. Optionally, results can
+ * also be expired after a fixed amount of time, which bounds their staleness
+ * in case events are missed, for example during a failover.
+ * <p>
+ * The number of filters results are cached for is bounded; when it is
+ * exceeded, the least recently used filter is evicted, and its map listener
+ * is unregistered.
+ * <p>
+ * All other operations are delegated to the wrapped cache as they are.
+ * <p>
+ * The map listeners of the remaining filters stay registered until
+ * {@link #release()} is called.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public class AggregateCachingRxNamedCache<K, V>
+        implements RxNamedCache<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct AggregateCachingRxNamedCache instance that only invalidates
+     * cached results based on map events.
+     *
+     * @param delegate  the RxNamedCache to delegate to
+     * @param cache     the NamedCache to register map listeners with
+     */
+    public AggregateCachingRxNamedCache(RxNamedCache<K, V> delegate, NamedCache<K, V> cache)
+        {
+        this(delegate, cache, 0L, TimeUnit.MILLISECONDS);
+        }
+
+    /**
+     * Construct AggregateCachingRxNamedCache instance.
+     *
+     * @param delegate    the RxNamedCache to delegate to
+     * @param cache       the NamedCache to register map listeners with
+     * @param cStaleness  the maximum time to keep a cached result for, or
+     *                    zero to only invalidate results based on map events
+     * @param unit        the time unit of the {@code cStaleness} argument
+     */
+    public AggregateCachingRxNamedCache(RxNamedCache<K, V> delegate, NamedCache<K, V> cache,
+                                        long cStaleness, TimeUnit unit)
+        {
+        this(delegate, cache, cStaleness, unit, DEFAULT_MAX_FILTERS);
+        }
+
+    /**
+     * Construct AggregateCachingRxNamedCache instance.
+     *
+     * @param delegate     the RxNamedCache to delegate to
+     * @param cache        the NamedCache to register map listeners with
+     * @param cStaleness   the maximum time to keep a cached result for, or
+     *                     zero to only invalidate results based on map events
+     * @param unit         the time unit of the {@code cStaleness} argument
+     * @param cMaxFilters  the maximum number of filters to cache results for
+     */
+    public AggregateCachingRxNamedCache(RxNamedCache<K, V> delegate, NamedCache<K, V> cache,
+                                        long cStaleness, TimeUnit unit, int cMaxFilters)
+        {
+        if (cMaxFilters <= 0)
+            {
+            throw new IllegalArgumentException("the maximum number of filters must be positive");
+            }
+
+        f_delegate       = delegate;
+        f_cache          = cache;
+        f_cStalenessNano = Math.max(0L, unit.toNanos(cStaleness));
+        f_cMaxFilters    = cMaxFilters;
+        }
+
+    // ---- result cache ----------------------------------------------------
+
+    /**
+     * Return the number of calls that were served from the result cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount()
+        {
+        return f_cHits.sum();
+        }
+
+    /**
+     * Return the number of calls that were sent to the wrapped cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount()
+        {
+        return f_cMisses.sum();
+        }
+
+    /**
+     * Discard all cached results.
+     */
+    public void invalidateAll()
+        {
+        f_mapFilters.values().forEach(FilterResults::invalidate);
+        }
+
+    /**
+     * Discard all cached results and unregister all map listeners.
+     */
+    public void release()
+        {
+        for (FilterResults results : f_mapFilters.values())
+            {
+            if (f_mapFilters.remove(results.f_filter, results))
+                {
+                results.invalidate();
+                results.unregister();
+                }
+            }
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return the results for the specified filter, registering a map listener
+     * for it if necessary.
+     * <p>
+     * The listener is registered before the results are published, so that
+     * no result can be cached for the filter without a listener in place.
+     * If another thread publishes results for the same filter first, the
+     * listener registered by this thread is unregistered again.
+     *
+     * @param filter  the filter to return the results for
+     *
+     * @return the results for the specified filter
+     */
+    protected FilterResults ensureResults(Filter filter)
+        {
+        FilterResults results = f_mapFilters.get(filter);
+        if (results == null)
+            {
+            FilterResults resultsNew = new FilterResults(filter);
+            resultsNew.register();
+
+            results = f_mapFilters.putIfAbsent(filter, resultsNew);
+            if (results == null)
+                {
+                results = resultsNew;
+                evict(results);
+                }
+            else
+                {
+                resultsNew.unregister();
+                }
+            }
+
+        results.m_ldtLastUsed = System.nanoTime();
+
+        return results;
+        }
+
+    /**
+     * Evict the least recently used filters until no more than the maximum
+     * number of filters remain, and unregister their map listeners.
+     *
+     * @param resultsKeep  the results that should not be evicted
+     */
+    protected void evict(FilterResults resultsKeep)
+        {
+        while (f_mapFilters.size() > f_cMaxFilters)
+            {
+            FilterResults resultsEvict = null;
+            for (FilterResults results : f_mapFilters.values())
+                {
+                if (results != resultsKeep
+                    && (resultsEvict == null || results.m_ldtLastUsed - resultsEvict.m_ldtLastUsed < 0L))
+                    {
+                    resultsEvict = results;
+                    }
+                }
+
+            if (resultsEvict == null)
+                {
+                return;
+                }
+
+            if (f_mapFilters.remove(resultsEvict.f_filter, resultsEvict))
+                {
+                resultsEvict.invalidate();
+                resultsEvict.unregister();
+                }
+            }
+        }
+
+    // ---- cached operations -----------------------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Observable<R> aggregate(Filter filter,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return Observable.defer(() ->
+                {
+                FilterResults results = ensureResults(filter);
+                CachedResult  cached  = results.f_mapResults.get(aggregator);
+
+                if (cached != null && !cached.isExpired())
+                    {
+                    f_cHits.increment();
+                    return Observable.just((R) cached.f_oResult);
+                    }
+
+                long nVersion = results.m_nVersion;
+
+                f_cMisses.increment();
+                return f_delegate.aggregate(filter, aggregator)
+                        .doOnNext(result -> results.store(aggregator, result, nVersion));
+                });
+        }
+
+    @Override
+    public Observable<Integer> size()
+        {
+        return aggregate(AlwaysFilter.INSTANCE, COUNT);
+        }
+
+    // ---- RxNamedCache interface ------------------------------------------
+
+    @Override
+    public Observable<V> get(K key)
+        {
+        return f_delegate.get(key);
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> getAll(Collection<? extends K> colKeys)
+        {
+        return f_delegate.getAll(colKeys);
+        }
+
+    @Override
+    public Observable<Void> putAll(Map<? extends K, ? extends V> map)
+        {
+        return f_delegate.putAll(map);
+        }
+
+    @Override
+    public Observable<Integer> putAll(Map<? extends K, ? extends V> map, int cBatchSize, int cMaxInFlight)
+        {
+        return f_delegate.putAll(map, cBatchSize, cMaxInFlight);
+        }
+
+    @Override
+    public Observable<K> keySet(Filter filter)
+        {
+        return f_delegate.keySet(filter);
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> entrySet(Filter filter)
+        {
+        return f_delegate.entrySet(filter);
+        }
+
+    @Override
+    public Observable<V> values(Filter filter)
+        {
+        return f_delegate.values(filter);
+        }
+
+    @Override
+    public <R> Observable<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invoke(key, processor);
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invokeAll(collKeys, processor);
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invokeAll(filter, processor);
+        }
+
+    @Override
+    public <R> Observable<R> aggregate(Collection<? extends K> collKeys,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return f_delegate.aggregate(collKeys, aggregator);
+        }
+
+    @Override
+    public Observable<MapEvent<K, V>> continuousQuery(Filter filter)
+        {
+        return f_delegate.continuousQuery(filter);
+        }
+
+    @Override
+    public <E> Observable<MapEvent<K, E>> continuousQuery(Filter filter, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        return f_delegate.continuousQuery(filter, extractor);
+        }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Windowed aggregations are always delegated to the wrapped cache, as
+     * their time-based filters would never produce a cache hit.
+     */
+    @Override
+    public <G, R> Observable<Map<G, R>> window(Filter filter,
+                                               ValueExtractor<? super V, ? extends G> groupBy,
+                                               ValueExtractor<? super V, Long> timestamp,
+                                               InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator,
+                                               long cWindow, long cPeriod, TimeUnit unit, Scheduler scheduler,
+                                               LongSupplier clock)
+        {
+        return f_delegate.window(filter, groupBy, timestamp, aggregator, cWindow, cPeriod, unit, scheduler, clock);
+        }
+
+    // ---- inner class: CachedResult ---------------------------------------
+
+    /**
+     * A cached aggregation result.
+     */
+    protected class CachedResult
+        {
+        /**
+         * Construct CachedResult instance.
+         *
+         * @param oResult  the aggregation result
+         */
+        protected CachedResult(Object oResult)
+            {
+            f_oResult = oResult;
+            }
+
+        /**
+         * Return {@code true} if this result is older than the configured
+         * staleness bound.
+         *
+         * @return {@code true} if this result has expired
+         */
+        protected boolean isExpired()
+            {
+            return f_cStalenessNano > 0L && System.nanoTime() - f_ldtCreated > f_cStalenessNano;
+            }
+
+        /**
+         * The aggregation result.
+         */
+        protected final Object f_oResult;
+
+        /**
+         * The time this result was created.
+         */
+        protected final long f_ldtCreated = System.nanoTime();
+        }
+
+    // ---- inner class: FilterResults --------------------------------------
+
+    /**
+     * The cached results for a single filter, and the map listener that
+     * invalidates them.
+     */
+    protected class FilterResults
+            extends MultiplexingMapListener<K, V>
+            implements MapListenerSupport.SynchronousListener<K, V>
+        {
+        /**
+         * Construct FilterResults instance.
+         *
+         * @param filter  the filter the results are for
+         */
+        @SuppressWarnings("unchecked")
+        protected FilterResults(Filter filter)
+            {
+            f_filter      = filter;
+            f_filterEvent = new MapEventFilter(MapEventFilter.E_ALL, filter);
+            }
+
+        /**
+         * Register this object as a lite map listener for the entries that
+         * match the filter.
+         */
+        protected void register()
+            {
+            f_cache.addMapListener(this, f_filterEvent, true);
+            }
+
+        /**
+         * Unregister this object as a map listener.
+         */
+        protected void unregister()
+            {
+            f_cache.removeMapListener(this, f_filterEvent);
+            }
+
+        @Override
+        protected void onMapEvent(MapEvent<K, V> evt)
+            {
+            invalidate();
+            }
+
+        /**
+         * Discard all results for this filter.
+         */
+        protected synchronized void invalidate()
+            {
+            m_nVersion++;
+            f_mapResults.clear();
+            }
+
+        /**
+         * Cache the specified result, unless the results for this filter
+         * were invalidated since the aggregation was started.
+         *
+         * @param aggregator  the aggregator the result is for
+         * @param oResult     the aggregation result
+         * @param nVersion    the version of the results when the aggregation
+         *                    was started
+         */
+        protected synchronized void store(Object aggregator, Object oResult, long nVersion)
+            {
+            if (m_nVersion == nVersion)
+                {
+                f_mapResults.put(aggregator, new CachedResult(oResult));
+                }
+            }
+
+        /**
+         * The filter the results are for.
+         */
+        protected final Filter f_filter;
+
+        /**
+         * The filter the map listener is registered with.
+         */
+        protected final MapEventFilter f_filterEvent;
+
+        /**
+         * The cached results, keyed by aggregator.
+         */
+        protected final Map<Object, CachedResult> f_mapResults = new ConcurrentHashMap<>();
+
+        /**
+         * The version of the results, incremented on each invalidation.
+         */
+        protected volatile long m_nVersion;
+
+        /**
+         * The time these results were last looked up, used to find the least
+         * recently used filter to evict.
+         */
+        protected volatile long m_ldtLastUsed;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The default maximum number of filters to cache results for.
+     */
+    public static final int DEFAULT_MAX_FILTERS = 128;
+
+    /**
+     * The aggregator used by {@link #size()}; a single instance is used so
+     * that its results can be found in the cache regardless of whether the
+     * aggregator implements {@code equals}.
+     */
+    @SuppressWarnings("unchecked")
+    protected static final InvocableMap.EntryAggregator COUNT = new Count();
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The RxNamedCache to delegate to.
+     */
+    protected final RxNamedCache<K, V> f_delegate;
+
+    /**
+     * The NamedCache to register map listeners with.
+     */
+    protected final NamedCache<K, V> f_cache;
+
+    /**
+     * The maximum time to keep a cached result for, in nanoseconds, or zero
+     * if results are only invalidated based on map events.
+     */
+    protected final long f_cStalenessNano;
+
+    /**
+     * The maximum number of filters to cache results for.
+     */
+    protected final int f_cMaxFilters;
+
+    /**
+     * The cached results, keyed by filter.
+     */
+    protected final Map<Filter, FilterResults> f_mapFilters = new ConcurrentHashMap<>();
+
+    /**
+     * The number of calls served from the result cache.
+     */
+    protected final LongAdder f_cHits = new LongAdder();
+
+    /**
+     * The number of calls sent to the wrapped cache.
+     */
+    protected final LongAdder f_cMisses = new LongAdder();
+    }
@@ -0,0 +1,173 @@
+/*
+ * File: BlindProcessors.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.NullImplementation;
+
+import com.tangosol.util.filter.AlwaysFilter;
+
+import com.tangosol.util.function.Remote;
+
+import com.tangosol.util.processor.AbstractProcessor;
+import com.tangosol.util.processor.ConditionalPutAll;
+import com.tangosol.util.processor.ConditionalRemove;
+
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Entry processors for bulk operations whose per-entry results are not needed.
+ * <p>
+ * Unlike the processors returned by {@code CacheProcessors}, these processors
+ * return an empty result map from {@code processAll}, so the storage members
+ * do not send any per-entry results back to the caller.
+ *
+ * @author agent  2026.10.16
+ */
+final class BlindProcessors
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Prevent instantiation.
+     */
+    private BlindProcessors()
+        {
+        }
+
+    // ---- factory methods -------------------------------------------------
+
+    /**
+     * Return a processor that removes each entry it is invoked against, and
+     * returns no results.
+     *
+     * @param <K>  the type of the entry keys
+     * @param <V>  the type of the entry values
+     *
+     * @return a processor that removes entries without returning results
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> InvocableMap.EntryProcessor<K, V, V> remove()
+        {
+        return (InvocableMap.EntryProcessor<K, V, V>) REMOVE;
+        }
+
+    /**
+     * Return a processor that sets the value of each entry it is invoked
+     * against to the value of the same key in the specified map, and returns
+     * no results.
+     *
+     * @param map  the mappings to write
+     * @param <K>  the type of the entry keys
+     * @param <V>  the type of the entry values
+     *
+     * @return a processor that writes entries without returning results
+     */
+    static <K, V> InvocableMap.EntryProcessor<K, V, V> putAll(Map<? extends K, ? extends V> map)
+        {
+        // ConditionalPutAll returns an empty map from processAll, and
+        // AlwaysFilter makes it write every entry that is present in the map
+        return new ConditionalPutAll<>(AlwaysFilter.INSTANCE, map);
+        }
+
+    /**
+     * Return a processor that replaces the value of each entry it is invoked
+     * against with the result of the specified function, and returns no
+     * results.
+     *
+     * @param function  the function to apply to each entry
+     * @param <K>       the type of the entry keys
+     * @param <V>       the type of the entry values
+     *
+     * @return a processor that replaces entries without returning results
+     */
+    static <K, V> InvocableMap.EntryProcessor<K, V, Void> replace(
+            Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return new Replace<>(function);
+        }
+
+    // ---- inner class: Replace --------------------------------------------
+
+    /**
+     * The processor returned by {@link #replace(Remote.BiFunction)}.
+     *
+     * @param <K>  the type of the entry keys
+     * @param <V>  the type of the entry values
+     */
+    static class Replace<K, V>
+            extends AbstractProcessor<K, V, Void>
+        {
+        /**
+         * Construct Replace instance.
+         *
+         * @param function  the function to apply to each entry
+         */
+        Replace(Remote.BiFunction<? super K, ? super V, ? extends V> function)
+            {
+            m_function = function;
+            }
+
+        // ---- InvocableMap.EntryProcessor interface -----------------------
+
+        @Override
+        public Void process(InvocableMap.Entry<K, V> entry)
+            {
+            entry.setValue(m_function.apply(entry.getKey(), entry.getValue()), false);
+            return null;
+            }
+
+        @Override
+        public Map<K, Void> processAll(Set<? extends InvocableMap.Entry<K, V>> setEntries)
+            {
+            for (InvocableMap.Entry<K, V> entry : setEntries)
+                {
+                process(entry);
+                }
+
+            return NullImplementation.getMap();
+            }
+
+        // ---- constants ---------------------------------------------------
+
+        /**
+         * The serialization version of this class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The function to apply to each entry.
+         */
+        protected Remote.BiFunction<? super K, ? super V, ? extends V> m_function;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The processor returned by {@link #remove()}; {@link ConditionalRemove}
+     * created with {@code fReturn == false} only reports the entries it failed
+     * to remove, and {@link AlwaysFilter} never fails.
+     */
+    private static final InvocableMap.EntryProcessor<?, ?, ?> REMOVE = new ConditionalRemove<>(AlwaysFilter.INSTANCE);
+    }
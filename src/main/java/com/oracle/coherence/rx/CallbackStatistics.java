@@ -0,0 +1,207 @@
+/*
+ * File: CallbackStatistics.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Observable;
+import rx.Subscriber;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Statistics about the time spent by subscribers processing the results
+ * emitted by an {@link RxNamedCache}.
+ * <p>
+ * The statistics are collected on the thread that delivers results to the
+ * subscribers, and can be used to determine whether subscribers are slow
+ * enough to warrant a dedicated delivery scheduler, and how large its
+ * thread pool should be.
+ *
+ * @author agent  2026.10.16
+ * @see RxNamedCacheOptions#withCallbackStatistics(CallbackStatistics)
+ */
+public class CallbackStatistics
+    {
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return the number of callbacks ({@code onNext}, {@code onCompleted}
+     * and {@code onError}) that were invoked.
+     *
+     * @return the number of callbacks
+     */
+    public long getCallbackCount()
+        {
+        return f_cCallbacks.sum();
+        }
+
+    /**
+     * Return the total time spent in callbacks.
+     *
+     * @param unit  the time unit to return the result in
+     *
+     * @return the total time spent in callbacks
+     */
+    public long getTotalTime(TimeUnit unit)
+        {
+        return unit.convert(f_cNanosTotal.sum(), TimeUnit.NANOSECONDS);
+        }
+
+    /**
+     * Return the average time spent in a single callback.
+     *
+     * @param unit  the time unit to return the result in
+     *
+     * @return the average time spent in a single callback
+     */
+    public double getAverageTime(TimeUnit unit)
+        {
+        long cCallbacks = f_cCallbacks.sum();
+
+        return cCallbacks == 0
+               ? 0.0
+               : (double) f_cNanosTotal.sum() / cCallbacks / TimeUnit.NANOSECONDS.convert(1, unit);
+        }
+
+    /**
+     * Return the longest time spent in a single callback.
+     *
+     * @param unit  the time unit to return the result in
+     *
+     * @return the longest time spent in a single callback
+     */
+    public long getMaxTime(TimeUnit unit)
+        {
+        return unit.convert(f_cNanosMax.get(), TimeUnit.NANOSECONDS);
+        }
+
+    /**
+     * Reset all statistics.
+     */
+    public void reset()
+        {
+        f_cCallbacks.reset();
+        f_cNanosTotal.reset();
+        f_cNanosMax.set(0L);
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Record a single callback.
+     *
+     * @param cNanos  the time spent in the callback, in nanoseconds
+     */
+    protected void record(long cNanos)
+        {
+        f_cCallbacks.increment();
+        f_cNanosTotal.add(cNanos);
+        f_cNanosMax.accumulateAndGet(cNanos, Math::max);
+        }
+
+    /**
+     * Return an operator that records the time spent by downstream
+     * subscribers processing each emitted item and terminal event.
+     *
+     * @param <T>  the type of the emitted items
+     *
+     * @return an operator that records callback times into this object
+     */
+    public <T> Observable.Operator<T, T> operator()
+        {
+        return child -> new Subscriber<T>(child)
+            {
+            @Override
+            public void onNext(T t)
+                {
+                long ldtStart = System.nanoTime();
+                try
+                    {
+                    child.onNext(t);
+                    }
+                finally
+                    {
+                    record(System.nanoTime() - ldtStart);
+                    }
+                }
+
+            @Override
+            public void onCompleted()
+                {
+                long ldtStart = System.nanoTime();
+                try
+                    {
+                    child.onCompleted();
+                    }
+                finally
+                    {
+                    record(System.nanoTime() - ldtStart);
+                    }
+                }
+
+            @Override
+            public void onError(Throwable e)
+                {
+                long ldtStart = System.nanoTime();
+                try
+                    {
+                    child.onError(e);
+                    }
+                finally
+                    {
+                    record(System.nanoTime() - ldtStart);
+                    }
+                }
+            };
+        }
+
+    // ---- Object methods --------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "CallbackStatistics{"
+               + "callbacks=" + getCallbackCount()
+               + ", totalMillis=" + getTotalTime(TimeUnit.MILLISECONDS)
+               + ", averageMicros=" + String.format("%.3f", getAverageTime(TimeUnit.MICROSECONDS))
+               + ", maxMicros=" + getMaxTime(TimeUnit.MICROSECONDS)
+               + '}';
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The number of callbacks.
+     */
+    protected final LongAdder f_cCallbacks = new LongAdder();
+
+    /**
+     * The total time spent in callbacks, in nanoseconds.
+     */
+    protected final LongAdder f_cNanosTotal = new LongAdder();
+
+    /**
+     * The longest time spent in a single callback, in nanoseconds.
+     */
+    protected final AtomicLong f_cNanosMax = new AtomicLong();
+    }
@@ -0,0 +1,598 @@
+/*
+ * File: CoalescingRxNamedCache.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.internal.util.processor.CacheProcessors;
+
+import com.tangosol.net.cache.CacheMap;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ValueExtractor;
+
+import rx.Observable;
+import rx.Scheduler;
+
+import rx.schedulers.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An {@link RxNamedCache} decorator that coalesces concurrent single-key
+ * {@link #get}, {@link #put} and {@link #remove} calls into bulk operations.
+ * <p>
+ * Calls are collected per operation type until either the configured batch
+ * size is reached or the configured time window elapses since the first call
+ * in the batch, whichever happens first. The whole batch is then sent to the
+ * wrapped cache as a single {@code invokeAll} (or {@code putAll}) request,
+ * and the results are split back out to the individual callers.
+ * <p>
+ * Because calls are batched per operation type, no ordering is guaranteed
+ * between a {@code put} and a subsequent {@code get} or {@code remove} for
+ * the same key, unless the caller waits for the first operation to complete
+ * before issuing the next one. If the same key is written more than once
+ * within a batch, the last value wins, and if it is removed more than once,
+ * only the first call returns the removed value.
+ * <p>
+ * If the wrapped cache serves {@code get} calls from the front map of a near
+ * cache, the front map is checked first, and only the keys that are not
+ * present in it are added to a batch.
+ * <p>
+ * All other operations are delegated to the wrapped cache as they are, so
+ * the options it was created with, such as streaming or lock-free reads,
+ * still apply.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public class CoalescingRxNamedCache<K, V>
+        implements RxNamedCache<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct CoalescingRxNamedCache instance that uses the computation
+     * scheduler to flush partial batches.
+     *
+     * @param delegate   the RxNamedCache to delegate to
+     * @param cMaxBatch  the maximum number of calls in a single batch
+     * @param cWindow    the maximum time to wait for a batch to fill up
+     * @param unit       the time unit of the {@code cWindow} argument
+     */
+    public CoalescingRxNamedCache(RxNamedCache<K, V> delegate, int cMaxBatch, long cWindow, TimeUnit unit)
+        {
+        this(delegate, cMaxBatch, cWindow, unit, Schedulers.computation());
+        }
+
+    /**
+     * Construct CoalescingRxNamedCache instance.
+     *
+     * @param delegate   the RxNamedCache to delegate to
+     * @param cMaxBatch  the maximum number of calls in a single batch
+     * @param cWindow    the maximum time to wait for a batch to fill up
+     * @param unit       the time unit of the {@code cWindow} argument
+     * @param scheduler  the scheduler to use to flush partial batches
+     */
+    public CoalescingRxNamedCache(RxNamedCache<K, V> delegate, int cMaxBatch, long cWindow, TimeUnit unit,
+                                  Scheduler scheduler)
+        {
+        if (cMaxBatch <= 0)
+            {
+            throw new IllegalArgumentException("batch size must be positive");
+            }
+
+        f_delegate  = delegate;
+        f_mapFront  = delegate instanceof RxNamedCacheImpl ? ((RxNamedCacheImpl<K, V>) delegate).m_mapFront : null;
+        f_cMaxBatch = cMaxBatch;
+        f_cWindowMs = Math.max(0L, unit.toMillis(cWindow));
+        f_scheduler = scheduler;
+        }
+
+    // ---- coalesced operations --------------------------------------------
+
+    @Override
+    public Observable<V> get(K key)
+        {
+        Map<K, V> mapFront = f_mapFront;
+        if (mapFront == null)
+            {
+            return f_batchGet.submit(key, null);
+            }
+
+        return Observable.create(s ->
+                {
+                V value = mapFront.get(key);
+                if (value == null)
+                    {
+                    f_batchGet.submit(key, null).unsafeSubscribe(s);
+                    }
+                else if (!s.isUnsubscribed())
+                    {
+                    s.onNext(value);
+                    s.onCompleted();
+                    }
+                });
+        }
+
+    @Override
+    public Observable<Void> put(K key, V value, long cMillis)
+        {
+        return cMillis == CacheMap.EXPIRY_DEFAULT
+               ? f_batchPut.submit(key, value)
+               : f_delegate.put(key, value, cMillis);
+        }
+
+    @Override
+    public Observable<V> remove(K key)
+        {
+        return f_batchRemove.submit(key, null);
+        }
+
+    // ---- RxNamedCache interface ------------------------------------------
+
+    @Override
+    public <R> Observable<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invoke(key, processor);
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invokeAll(collKeys, processor);
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return f_delegate.invokeAll(filter, processor);
+        }
+
+    @Override
+    public <R> Observable<R> aggregate(Collection<? extends K> collKeys,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return f_delegate.aggregate(collKeys, aggregator);
+        }
+
+    @Override
+    public <R> Observable<R> aggregate(Filter filter,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return f_delegate.aggregate(filter, aggregator);
+        }
+
+    @Override
+    public Observable<MapEvent<K, V>> continuousQuery(Filter filter)
+        {
+        return f_delegate.continuousQuery(filter);
+        }
+
+    @Override
+    public <E> Observable<MapEvent<K, E>> continuousQuery(Filter filter, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        return f_delegate.continuousQuery(filter, extractor);
+        }
+
+    @Override
+    public Observable<Void> putAll(Map<? extends K, ? extends V> map)
+        {
+        return f_delegate.putAll(map);
+        }
+
+    @Override
+    public Observable<Integer> putAll(Map<? extends K, ? extends V> map, int cBatchSize, int cMaxInFlight)
+        {
+        return f_delegate.putAll(map, cBatchSize, cMaxInFlight);
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> getAll(Collection<? extends K> colKeys)
+        {
+        return f_delegate.getAll(colKeys);
+        }
+
+    @Override
+    public Observable<K> keySet(Filter filter)
+        {
+        return f_delegate.keySet(filter);
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> entrySet(Filter filter)
+        {
+        return f_delegate.entrySet(filter);
+        }
+
+    @Override
+    public Observable<V> values(Filter filter)
+        {
+        return f_delegate.values(filter);
+        }
+
+    // ---- inner class: Request --------------------------------------------
+
+    /**
+     * A single call waiting to be sent as part of a batch.
+     *
+     * @param <R> the type of the call result
+     */
+    protected class Request<R>
+        {
+        /**
+         * Construct Request instance.
+         *
+         * @param key    the key the call is for
+         * @param value  the value to write, if any
+         */
+        protected Request(K key, V value)
+            {
+            f_key   = key;
+            f_value = value;
+            }
+
+        /**
+         * The key the call is for.
+         */
+        protected final K f_key;
+
+        /**
+         * The value to write, if any.
+         */
+        protected final V f_value;
+
+        /**
+         * The future that will be completed with the call result.
+         */
+        protected final CompletableFuture<R> f_future = new CompletableFuture<>();
+        }
+
+    // ---- inner class: Batch ----------------------------------------------
+
+    /**
+     * A batch of pending calls of the same type.
+     *
+     * @param <R> the type of the call result
+     */
+    protected abstract class Batch<R>
+        {
+        /**
+         * Construct Batch instance.
+         *
+         * @param fEmit     {@code true} if the call result should be emitted,
+         *                  {@code false} if the observable should only
+         *                  complete
+         * @param fConsume  {@code true} if the result for a key should only be
+         *                  returned to the first call for that key in a batch,
+         *                  and {@code null} to the others
+         */
+        protected Batch(boolean fEmit, boolean fConsume)
+            {
+            f_fEmit    = fEmit;
+            f_fConsume = fConsume;
+            }
+
+        /**
+         * Add a call to this batch when the returned observable is
+         * subscribed to.
+         *
+         * @param key    the key the call is for
+         * @param value  the value to write, if any
+         *
+         * @return an {@link Observable} for the call result
+         */
+        protected Observable<R> submit(K key, V value)
+            {
+            return Observable.create(s ->
+                    {
+                    Request<R> request = new Request<>(key, value);
+
+                    request.f_future.whenComplete((r, t) ->
+                            {
+                            if (!s.isUnsubscribed())
+                                {
+                                if (t == null)
+                                    {
+                                    if (f_fEmit)
+                                        {
+                                        s.onNext(r);
+                                        }
+                                    s.onCompleted();
+                                    }
+                                else
+                                    {
+                                    s.onError(t);
+                                    }
+                                }
+                            });
+
+                    add(request);
+                    });
+            }
+
+        /**
+         * Add the specified request to this batch, and send the batch if it
+         * is full or schedule it to be sent if it is the first request.
+         *
+         * @param request  the request to add
+         */
+        protected void add(Request<R> request)
+            {
+            List<Request<R>> listFull = null;
+            long             nBatch   = 0L;
+
+            synchronized (this)
+                {
+                m_listPending.add(request);
+
+                int cPending = m_listPending.size();
+                if (cPending >= f_cMaxBatch)
+                    {
+                    listFull      = m_listPending;
+                    m_listPending = new ArrayList<>();
+                    }
+                else if (cPending == 1)
+                    {
+                    nBatch = ++m_nBatch;
+                    }
+                }
+
+            if (listFull != null)
+                {
+                send(listFull);
+                }
+            else if (nBatch != 0L)
+                {
+                long             nScheduled = nBatch;
+                Scheduler.Worker worker     = f_scheduler.createWorker();
+                worker.schedule(() ->
+                        {
+                        try
+                            {
+                            flush(nScheduled);
+                            }
+                        finally
+                            {
+                            worker.unsubscribe();
+                            }
+                        }, f_cWindowMs, TimeUnit.MILLISECONDS);
+                }
+            }
+
+        /**
+         * Send all pending requests, if they are still the batch with the
+         * specified sequence number.
+         *
+         * @param nBatch  the sequence number of the batch to send
+         */
+        protected void flush(long nBatch)
+            {
+            List<Request<R>> list;
+
+            synchronized (this)
+                {
+                if (m_nBatch != nBatch || m_listPending.isEmpty())
+                    {
+                    return;
+                    }
+
+                list          = m_listPending;
+                m_listPending = new ArrayList<>();
+                }
+
+            send(list);
+            }
+
+        /**
+         * Send the specified requests to the cache, making sure that all of
+         * them are eventually completed.
+         *
+         * @param list  the requests to send
+         */
+        protected void send(List<Request<R>> list)
+            {
+            try
+                {
+                execute(list);
+                }
+            catch (Throwable t)
+                {
+                fail(list, t);
+                }
+            }
+
+        /**
+         * Execute the specified requests as a single bulk operation.
+         *
+         * @param list  the requests to execute
+         */
+        protected abstract void execute(List<Request<R>> list);
+
+        /**
+         * Complete each request with the result for its key.
+         *
+         * @param list         the requests to complete
+         * @param listEntries  the results of the bulk operation
+         */
+        protected void complete(List<Request<R>> list, List<? extends Map.Entry<? extends K, ? extends R>> listEntries)
+            {
+            Map<K, R> mapResults = new HashMap<>(listEntries.size());
+            for (Map.Entry<? extends K, ? extends R> entry : listEntries)
+                {
+                mapResults.put(entry.getKey(), entry.getValue());
+                }
+
+            for (Request<R> request : list)
+                {
+                request.f_future.complete(f_fConsume
+                                          ? mapResults.remove(request.f_key)
+                                          : mapResults.get(request.f_key));
+                }
+            }
+
+        /**
+         * Complete each request exceptionally.
+         *
+         * @param list   the requests to complete
+         * @param error  the error that caused the bulk operation to fail
+         */
+        protected void fail(List<Request<R>> list, Throwable error)
+            {
+            for (Request<R> request : list)
+                {
+                request.f_future.completeExceptionally(error);
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * Flag specifying whether the call result should be emitted.
+         */
+        protected final boolean f_fEmit;
+
+        /**
+         * Flag specifying whether the result for a key should only be
+         * returned to the first call for that key.
+         */
+        protected final boolean f_fConsume;
+
+        /**
+         * The pending requests.
+         */
+        protected List<Request<R>> m_listPending = new ArrayList<>();
+
+        /**
+         * The sequence number of the current batch.
+         */
+        protected long m_nBatch;
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return the distinct keys of the specified requests.
+     *
+     * @param list  the requests
+     *
+     * @return the distinct keys of the specified requests
+     */
+    protected Set<K> keys(List<? extends Request<?>> list)
+        {
+        Set<K> setKeys = new LinkedHashSet<>(list.size());
+        for (Request<?> request : list)
+            {
+            setKeys.add(request.f_key);
+            }
+
+        return setKeys;
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The RxNamedCache to delegate to.
+     */
+    protected final RxNamedCache<K, V> f_delegate;
+
+    /**
+     * The front map {@link #get} calls are served from, or {@code null} if
+     * the wrapped cache does not read from a front map.
+     */
+    protected final Map<K, V> f_mapFront;
+
+    /**
+     * The maximum number of calls in a single batch.
+     */
+    protected final int f_cMaxBatch;
+
+    /**
+     * The maximum time to wait for a batch to fill up, in milliseconds.
+     */
+    protected final long f_cWindowMs;
+
+    /**
+     * The scheduler to use to flush partial batches.
+     */
+    protected final Scheduler f_scheduler;
+
+    /**
+     * The batch of pending get calls.
+     */
+    protected final Batch<V> f_batchGet = new Batch<V>(true, false)
+        {
+        @Override
+        protected void execute(List<Request<V>> list)
+            {
+            f_delegate.getAll(keys(list))
+                    .toList()
+                    .subscribe(listEntries -> complete(list, listEntries), t -> fail(list, t));
+            }
+        };
+
+    /**
+     * The batch of pending put calls.
+     */
+    protected final Batch<Void> f_batchPut = new Batch<Void>(false, false)
+        {
+        @Override
+        protected void execute(List<Request<Void>> list)
+            {
+            Map<K, V> map = new LinkedHashMap<>(list.size());
+            for (Request<Void> request : list)
+                {
+                map.put(request.f_key, request.f_value);
+                }
+
+            f_delegate.putAll(map)
+                    .subscribe(v -> {}, t -> fail(list, t), () -> list.forEach(r -> r.f_future.complete(null)));
+            }
+        };
+
+    /**
+     * The batch of pending remove calls.
+     */
+    protected final Batch<V> f_batchRemove = new Batch<V>(true, true)
+        {
+        @Override
+        protected void execute(List<Request<V>> list)
+            {
+            f_delegate.invokeAll(keys(list), CacheProcessors.remove())
+                    .toList()
+                    .subscribe(listEntries -> complete(list, listEntries), t -> fail(list, t));
+            }
+        };
+    }
@@ -0,0 +1,221 @@
+/*
+ * File: Histogram.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A thread-safe, fixed-size histogram of non-negative {@code long} values.
+ * <p>
+ * Values are counted in log-linear buckets, in the same way as in
+ * HdrHistogram: each power of two is split into {@link #SUB_BUCKETS} linear
+ * sub-buckets, so the values reported by {@link #getValueAtPercentile} are
+ * within about 3% of the recorded values, regardless of their magnitude,
+ * while recording a value only requires a single atomic increment.
+ *
+ * @author agent  2026.10.16
+ */
+public class Histogram
+    {
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount()
+        {
+        return f_cValues.sum();
+        }
+
+    /**
+     * Return the mean of the recorded values.
+     *
+     * @return the mean of the recorded values, or zero if no values were
+     *         recorded
+     */
+    public double getMean()
+        {
+        long cValues = f_cValues.sum();
+
+        return cValues == 0 ? 0.0 : (double) f_nTotal.sum() / cValues;
+        }
+
+    /**
+     * Return the largest recorded value.
+     *
+     * @return the largest recorded value
+     */
+    public long getMax()
+        {
+        return f_nMax.get();
+        }
+
+    /**
+     * Return the value below which the specified percentage of the recorded
+     * values fall.
+     *
+     * @param dPercentile  the percentile, between 0 and 100
+     *
+     * @return the value at the specified percentile, or zero if no values
+     *         were recorded
+     */
+    public long getValueAtPercentile(double dPercentile)
+        {
+        long cValues = f_cValues.sum();
+        if (cValues == 0)
+            {
+            return 0L;
+            }
+
+        long cTarget = Math.max(1L, (long) Math.ceil(Math.min(dPercentile, 100.0) / 100.0 * cValues));
+        long cSeen   = 0L;
+
+        for (int i = 0, c = f_aCounts.length(); i < c; i++)
+            {
+            cSeen += f_aCounts.get(i);
+            if (cSeen >= cTarget)
+                {
+                return Math.min(highestEquivalentValue(i), getMax());
+                }
+            }
+
+        return getMax();
+        }
+
+    // ---- recording -------------------------------------------------------
+
+    /**
+     * Record the specified value.
+     *
+     * @param nValue  the value to record; negative values are recorded as zero
+     */
+    public void record(long nValue)
+        {
+        nValue = Math.max(0L, nValue);
+
+        f_aCounts.incrementAndGet(indexOf(nValue));
+        f_cValues.increment();
+        f_nTotal.add(nValue);
+        f_nMax.accumulateAndGet(nValue, Math::max);
+        }
+
+    /**
+     * Reset this histogram.
+     */
+    public void reset()
+        {
+        for (int i = 0, c = f_aCounts.length(); i < c; i++)
+            {
+            f_aCounts.set(i, 0L);
+            }
+        f_cValues.reset();
+        f_nTotal.reset();
+        f_nMax.set(0L);
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return the index of the bucket the specified value belongs to.
+     *
+     * @param nValue  the non-negative value
+     *
+     * @return the index of the bucket
+     */
+    protected static int indexOf(long nValue)
+        {
+        if (nValue < SUB_BUCKETS)
+            {
+            return (int) nValue;
+            }
+
+        int nExp   = 63 - Long.numberOfLeadingZeros(nValue);
+        int nShift = nExp - SUB_BUCKET_BITS;
+
+        return (nShift + 1) * SUB_BUCKETS + (int) ((nValue >>> nShift) - SUB_BUCKETS);
+        }
+
+    /**
+     * Return the largest value that belongs to the bucket with the specified
+     * index.
+     *
+     * @param nIndex  the bucket index
+     *
+     * @return the largest value that belongs to the bucket
+     */
+    protected static long highestEquivalentValue(int nIndex)
+        {
+        int nBucket = nIndex / SUB_BUCKETS;
+        int nSub    = nIndex % SUB_BUCKETS;
+
+        if (nBucket == 0)
+            {
+            return nSub;
+            }
+
+        int nShift = nBucket - 1;
+
+        return ((long) (SUB_BUCKETS + nSub) << nShift) + (1L << nShift) - 1;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The number of bits used to select a linear sub-bucket.
+     */
+    protected static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of linear sub-buckets per power of two.
+     */
+    protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets required to cover all non-negative longs.
+     */
+    protected static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    protected final AtomicLongArray f_aCounts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of recorded values.
+     */
+    protected final LongAdder f_cValues = new LongAdder();
+
+    /**
+     * The sum of the recorded values.
+     */
+    protected final LongAdder f_nTotal = new LongAdder();
+
+    /**
+     * The largest recorded value.
+     */
+    protected final AtomicLong f_nMax = new AtomicLong();
+    }
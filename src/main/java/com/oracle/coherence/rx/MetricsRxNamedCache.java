@@ -0,0 +1,436 @@
+/*
+ * File: MetricsRxNamedCache.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.function.Remote;
+
+import rx.Observable;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * An {@link RxNamedCache} decorator that records per-operation metrics for
+ * each call made through it.
+ * <p>
+ * For each operation, including the ones that are derived from other
+ * operations, such as {@link #get} and {@link #size}, the decorator records
+ * the latency histogram, the number of calls in progress, the number of
+ * failed and cancelled calls, and the number of items emitted per call. See
+ * {@link OperationMetrics} for details.
+ * <p>
+ * The metrics can be pulled using {@link #getMetrics()}, or exposed as
+ * standard MBeans in the platform MBean server using
+ * {@link #registerMBeans(String)}.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public class MetricsRxNamedCache<K, V>
+        implements RxNamedCache<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct MetricsRxNamedCache instance.
+     *
+     * @param delegate  the RxNamedCache to delegate to
+     */
+    public MetricsRxNamedCache(RxNamedCache<K, V> delegate)
+        {
+        Map<String, OperationMetrics> mapMetrics = new TreeMap<>();
+        for (String sOperation : OPERATIONS)
+            {
+            mapMetrics.put(sOperation, new OperationMetrics(sOperation));
+            }
+
+        f_delegate   = delegate;
+        f_mapMetrics = Collections.unmodifiableMap(mapMetrics);
+        }
+
+    // ---- metrics ---------------------------------------------------------
+
+    /**
+     * Return the metrics for all operations, keyed by operation name.
+     *
+     * @return the metrics for all operations
+     */
+    public Map<String, OperationMetrics> getMetrics()
+        {
+        return f_mapMetrics;
+        }
+
+    /**
+     * Return the metrics for the specified operation.
+     *
+     * @param sOperation  the name of the operation, such as {@code "get"}
+     *
+     * @return the metrics for the specified operation, or {@code null} if
+     *         there is no such operation
+     */
+    public OperationMetrics getMetrics(String sOperation)
+        {
+        return f_mapMetrics.get(sOperation);
+        }
+
+    /**
+     * Reset the metrics for all operations.
+     */
+    public void reset()
+        {
+        f_mapMetrics.values().forEach(OperationMetrics::reset);
+        }
+
+    /**
+     * Register an MBean for each operation with the platform MBean server.
+     * <p>
+     * The MBeans are registered under the
+     * {@code com.oracle.coherence.rx:type=RxNamedCache,name=<sName>,operation=<operation>}
+     * object names.
+     *
+     * @param sName  the name to register the MBeans under, typically the
+     *               cache name
+     *
+     * @throws IllegalStateException  if the MBeans are already registered, or
+     *                                if the registration fails
+     */
+    public synchronized void registerMBeans(String sName)
+        {
+        if (!f_listObjectNames.isEmpty())
+            {
+            throw new IllegalStateException("MBeans are already registered");
+            }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try
+            {
+            for (OperationMetrics metrics : f_mapMetrics.values())
+                {
+                ObjectName objectName = new ObjectName(DOMAIN + ":type=RxNamedCache"
+                                                       + ",name=" + ObjectName.quote(sName)
+                                                       + ",operation=" + metrics.getName());
+
+                server.registerMBean(metrics, objectName);
+                f_listObjectNames.add(objectName);
+                }
+            }
+        catch (JMException e)
+            {
+            unregisterMBeans();
+            throw new IllegalStateException("failed to register MBeans for " + sName, e);
+            }
+        }
+
+    /**
+     * Unregister the MBeans registered by {@link #registerMBeans(String)},
+     * if any.
+     */
+    public synchronized void unregisterMBeans()
+        {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : f_listObjectNames)
+            {
+            try
+                {
+                server.unregisterMBean(objectName);
+                }
+            catch (JMException ignore)
+                {
+                }
+            }
+        f_listObjectNames.clear();
+        }
+
+    // ---- RxNamedCache interface ------------------------------------------
+
+    @Override
+    public Observable<V> get(K key)
+        {
+        return record("get", f_delegate.get(key));
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> getAll(Collection<? extends K> colKeys)
+        {
+        return record("getAll", f_delegate.getAll(colKeys));
+        }
+
+    @Override
+    public Observable<Void> put(K key, V value, long cMillis)
+        {
+        return record("put", f_delegate.put(key, value, cMillis));
+        }
+
+    @Override
+    public Observable<Void> putAll(Map<? extends K, ? extends V> map)
+        {
+        return record("putAll", f_delegate.putAll(map));
+        }
+
+    @Override
+    public Observable<Integer> putAll(Map<? extends K, ? extends V> map, int cBatchSize, int cMaxInFlight)
+        {
+        return record("putAll", f_delegate.putAll(map, cBatchSize, cMaxInFlight));
+        }
+
+    @Override
+    public Observable<V> remove(K key)
+        {
+        return record("remove", f_delegate.remove(key));
+        }
+
+    @Override
+    public Observable<Void> removeAll(Collection<? extends K> colKeys)
+        {
+        return record("removeAll", f_delegate.removeAll(colKeys));
+        }
+
+    @Override
+    public Observable<Void> removeAll(Filter filter)
+        {
+        return record("removeAll", f_delegate.removeAll(filter));
+        }
+
+    @Override
+    public Observable<K> keySet(Filter filter)
+        {
+        return record("keySet", f_delegate.keySet(filter));
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> entrySet(Filter filter)
+        {
+        return record("entrySet", f_delegate.entrySet(filter));
+        }
+
+    @Override
+    public Observable<V> values(Filter filter)
+        {
+        return record("values", f_delegate.values(filter));
+        }
+
+    @Override
+    public <R> Observable<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return record("invoke", f_delegate.invoke(key, processor));
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return record("invokeAll", f_delegate.invokeAll(collKeys, processor));
+        }
+
+    @Override
+    public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return record("invokeAll", f_delegate.invokeAll(filter, processor));
+        }
+
+    @Override
+    public <R> Observable<R> aggregate(Collection<? extends K> collKeys,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return record("aggregate", f_delegate.aggregate(collKeys, aggregator));
+        }
+
+    @Override
+    public <R> Observable<R> aggregate(Filter filter,
+                                       InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return record("aggregate", f_delegate.aggregate(filter, aggregator));
+        }
+
+    @Override
+    public Observable<MapEvent<K, V>> continuousQuery(Filter filter)
+        {
+        return record("continuousQuery", f_delegate.continuousQuery(filter));
+        }
+
+    @Override
+    public <E> Observable<MapEvent<K, E>> continuousQuery(Filter filter, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        return record("continuousQuery", f_delegate.continuousQuery(filter, extractor));
+        }
+
+    @Override
+    public Observable<Integer> size()
+        {
+        return record("size", f_delegate.size());
+        }
+
+    @Override
+    public Observable<Boolean> isEmpty()
+        {
+        return record("isEmpty", f_delegate.isEmpty());
+        }
+
+    @Override
+    public Observable<Void> clear()
+        {
+        return record("clear", f_delegate.clear());
+        }
+
+    @Override
+    public Observable<Boolean> containsKey(K key)
+        {
+        return record("containsKey", f_delegate.containsKey(key));
+        }
+
+    @Override
+    public Observable<V> getOrDefault(K key, V valueDefault)
+        {
+        return record("getOrDefault", f_delegate.getOrDefault(key, valueDefault));
+        }
+
+    @Override
+    public Observable<V> putIfAbsent(K key, V value)
+        {
+        return record("putIfAbsent", f_delegate.putIfAbsent(key, value));
+        }
+
+    @Override
+    public Observable<Boolean> remove(K key, V value)
+        {
+        return record("remove", f_delegate.remove(key, value));
+        }
+
+    @Override
+    public Observable<V> replace(K key, V value)
+        {
+        return record("replace", f_delegate.replace(key, value));
+        }
+
+    @Override
+    public Observable<Boolean> replace(K key, V oldValue, V newValue)
+        {
+        return record("replace", f_delegate.replace(key, oldValue, newValue));
+        }
+
+    @Override
+    public Observable<V> computeIfAbsent(K key, Remote.Function<? super K, ? extends V> mappingFunction)
+        {
+        return record("computeIfAbsent", f_delegate.computeIfAbsent(key, mappingFunction));
+        }
+
+    @Override
+    public Observable<V> computeIfPresent(K key, Remote.BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+        {
+        return record("computeIfPresent", f_delegate.computeIfPresent(key, remappingFunction));
+        }
+
+    @Override
+    public Observable<V> compute(K key, Remote.BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+        {
+        return record("compute", f_delegate.compute(key, remappingFunction));
+        }
+
+    @Override
+    public Observable<V> merge(K key, V value, Remote.BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+        {
+        return record("merge", f_delegate.merge(key, value, remappingFunction));
+        }
+
+    @Override
+    public Observable<Void> replaceAll(Collection<? extends K> collKeys,
+                                       Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return record("replaceAll", f_delegate.replaceAll(collKeys, function));
+        }
+
+    @Override
+    public Observable<Void> replaceAll(Filter filter,
+                                       Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return record("replaceAll", f_delegate.replaceAll(filter, function));
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return an observable that records the metrics of each subscription to
+     * the specified observable under the specified operation name.
+     *
+     * @param <T>         the type of the emitted items
+     * @param sOperation  the name of the operation
+     * @param observable  the observable returned by the wrapped cache
+     *
+     * @return the observable that records the metrics
+     */
+    protected <T> Observable<T> record(String sOperation, Observable<T> observable)
+        {
+        return observable.lift(f_mapMetrics.get(sOperation).<T>operator());
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The JMX domain the MBeans are registered in.
+     */
+    public static final String DOMAIN = "com.oracle.coherence.rx";
+
+    /**
+     * The names of the recorded operations.
+     */
+    protected static final String[] OPERATIONS =
+        {
+        "get", "getAll", "put", "putAll", "remove", "removeAll", "keySet", "entrySet", "values",
+        "invoke", "invokeAll", "aggregate", "size", "isEmpty", "clear", "containsKey", "getOrDefault",
+        "putIfAbsent", "replace", "computeIfAbsent", "computeIfPresent", "compute", "merge", "replaceAll",
+        "continuousQuery"
+        };
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The RxNamedCache to delegate to.
+     */
+    protected final RxNamedCache<K, V> f_delegate;
+
+    /**
+     * The metrics for each operation, keyed by operation name.
+     */
+    protected final Map<String, OperationMetrics> f_mapMetrics;
+
+    /**
+     * The names of the registered MBeans.
+     */
+    protected final List<ObjectName> f_listObjectNames = new ArrayList<>();
+    }
@@ -21,16 +21,48 @@ package com.oracle.coherence.rx;
 
 import com.tangosol.net.NamedCache;
 
+import com.tangosol.util.Filter;
 import com.tangosol.util.MapEvent;
 import com.tangosol.util.MapListener;
+import com.tangosol.util.ObservableMap;
+import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.filter.MapEventFilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
 
 import rx.Observable;
+import rx.Scheduler;
 import rx.Subscriber;
 
+import rx.exceptions.Exceptions;
+import rx.exceptions.MissingBackpressureException;
+
+import rx.schedulers.Schedulers;
+
 import rx.subscriptions.Subscriptions;
 
 
@@ -38,7 +70,9 @@ import rx.subscriptions.Subscriptions;
  * Observable implementation of a Coherence MapListener.
  * <p>
  * This is a 'hot' Observable which will start emitting events as soon as it's
- * registered with a cache via the {@link NamedCache#addMapListener} method.
+ * registered with a cache via the {@link NamedCache#addMapListener} method,
+ * or the {@link #addTo} method, which also registers the filter the listener
+ * was created with.
  *
  * See <a href="http://reactivex.io/documentation/observable.html">Observable
  * documentation</a> for the explanation of 'hot' vs 'cold' observables.
@@ -64,17 +98,88 @@ public class ObservableMapListener<K, V>
      */
     public static <K, V> ObservableMapListener<K, V> create()
         {
-        Set<Subscriber<? super MapEvent<K, V>>> subscribers = new CopyOnWriteArraySet<>();
+        return create((Filter) null);
+        }
+
+    /**
+     * Create ObservableMapListener instance that will only receive the events
+     * that match the specified filter, when registered with a cache via the
+     * {@link #addTo} method.
+     * <p>
+     * The filter is evaluated by the storage members, so the events that do
+     * not match it are never sent to the client. If the specified filter is
+     * not a {@link MapEventFilter}, it is evaluated against both the old and
+     * the new entry value, and the event is sent if either of them matches.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <V>     the type of the entry values
+     * @param filter  the filter to register the listener with, or {@code null}
+     *                to receive all events
+     *
+     * @return an ObservableMapListener
+     */
+    public static <K, V> ObservableMapListener<K, V> create(Filter filter)
+        {
+        return create(filter, false);
+        }
+
+    /**
+     * Create ObservableMapListener instance that will only receive the events
+     * that match the specified filter, when registered with a cache via the
+     * {@link #addTo} method.
+     * <p>
+     * If {@code fLite} is {@code true}, the listener is registered as a lite
+     * listener, and the events it receives may not contain the old and the
+     * new entry value, which avoids the cost of serializing and sending them
+     * to the client when subscribers only need the keys of the changed
+     * entries, such as when they are used to invalidate local state.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <V>     the type of the entry values
+     * @param filter  the filter to register the listener with, or {@code null}
+     *                to receive all events
+     * @param fLite   {@code true} to register the listener as a lite listener
+     *
+     * @return an ObservableMapListener
+     *
+     * @see #keys()
+     */
+    public static <K, V> ObservableMapListener<K, V> create(Filter filter, boolean fLite)
+        {
+        return create(filter, fLite, ObservableMapListenerOptions.DEFAULT);
+        }
+
+    /**
+     * Create ObservableMapListener instance that will only receive the events
+     * that match the specified filter, when registered with a cache via the
+     * {@link #addTo} method, and dispatch them to its subscribers as
+     * configured by the specified options.
+     *
+     * @param <K>      the type of the entry keys
+     * @param <V>      the type of the entry values
+     * @param filter   the filter to register the listener with, or
+     *                 {@code null} to receive all events
+     * @param fLite    {@code true} to register the listener as a lite listener
+     * @param options  the options that control how events are dispatched
+     *
+     * @return an ObservableMapListener
+     */
+    public static <K, V> ObservableMapListener<K, V> create(Filter filter, boolean fLite,
+                                                            ObservableMapListenerOptions options)
+        {
+        SubscriberRegistry<Subscriber<? super MapEvent<K, V>>> subscribers = new SubscriberRegistry<>();
+        LongAdder                                              cDropped    = new LongAdder();
 
         return new ObservableMapListener<>(subscriber ->
                        {
-                       subscriber.add(Subscriptions.create(() -> subscribers.remove(subscriber)));
+                       Subscriber<? super MapEvent<K, V>> s = dispatcher(subscriber, options, cDropped);
 
-                       if (!subscriber.isUnsubscribed())
+                       if (!s.isUnsubscribed())
                            {
-                           subscribers.add(subscriber);
+                           int nHandle = subscribers.register(s);
+                           s.add(Subscriptions.create(() -> subscribers.unregister(nHandle, s)));
                            }
-                       }, subscribers);
+                       }, subscribers, filter, fLite, options, cDropped);
         }
 
     /**
@@ -86,9 +191,432 @@ public class ObservableMapListener<K, V>
     protected ObservableMapListener(Observable.OnSubscribe<MapEvent<K, V>> onSubscribe,
                                     Set<Subscriber<? super MapEvent<K, V>>> subscribers)
         {
+        this(onSubscribe, subscribers, null);
+        }
+
+    /**
+     * Construct ObservableMapListener instance.
+     *
+     * @param onSubscribe  the function to execute when {@link #subscribe(Subscriber)} is called
+     * @param subscribers  the set of registered subscribers
+     * @param filter       the filter to register the listener with, or
+     *                     {@code null} to receive all events
+     */
+    protected ObservableMapListener(Observable.OnSubscribe<MapEvent<K, V>> onSubscribe,
+                                    Set<Subscriber<? super MapEvent<K, V>>> subscribers,
+                                    Filter filter)
+        {
+        this(onSubscribe, subscribers, filter, false);
+        }
+
+    /**
+     * Construct ObservableMapListener instance.
+     *
+     * @param onSubscribe  the function to execute when {@link #subscribe(Subscriber)} is called
+     * @param subscribers  the set of registered subscribers
+     * @param filter       the filter to register the listener with, or
+     *                     {@code null} to receive all events
+     * @param fLite        {@code true} to register the listener as a lite
+     *                     listener
+     */
+    protected ObservableMapListener(Observable.OnSubscribe<MapEvent<K, V>> onSubscribe,
+                                    Set<Subscriber<? super MapEvent<K, V>>> subscribers,
+                                    Filter filter, boolean fLite)
+        {
+        this(onSubscribe, subscribers, filter, fLite, ObservableMapListenerOptions.DEFAULT, new LongAdder());
+        }
+
+    /**
+     * Construct ObservableMapListener instance.
+     *
+     * @param onSubscribe  the function to execute when {@link #subscribe(Subscriber)} is called
+     * @param subscribers  the set of registered subscribers
+     * @param filter       the filter to register the listener with, or
+     *                     {@code null} to receive all events
+     * @param fLite        {@code true} to register the listener as a lite
+     *                     listener
+     * @param options      the options that control how events are dispatched
+     * @param cDropped     the counter of events dropped by the subscriber
+     *                     queues
+     */
+    protected ObservableMapListener(Observable.OnSubscribe<MapEvent<K, V>> onSubscribe,
+                                    Set<Subscriber<? super MapEvent<K, V>>> subscribers,
+                                    Filter filter, boolean fLite,
+                                    ObservableMapListenerOptions options, LongAdder cDropped)
+        {
         super(onSubscribe);
 
         m_subscribers = subscribers;
+        m_filter      = filter == null || filter instanceof MapEventFilter
+                        ? filter
+                        : new MapEventFilter(MapEventFilter.E_ALL, filter);
+        m_fLite       = fLite;
+        m_options     = options;
+        m_cDropped    = cDropped;
+        }
+
+    // ---- registration ----------------------------------------------------
+
+    /**
+     * Register this listener with the specified cache, using the filter this
+     * listener was created with.
+     *
+     * @param map  the cache to register this listener with
+     */
+    @SuppressWarnings("unchecked")
+    public void addTo(ObservableMap<K, V> map)
+        {
+        map.addMapListener(this, m_filter, m_fLite);
+        }
+
+    /**
+     * Unregister this listener from the specified cache.
+     *
+     * @param map  the cache to unregister this listener from
+     */
+    @SuppressWarnings("unchecked")
+    public void removeFrom(ObservableMap<K, V> map)
+        {
+        map.removeMapListener(this, m_filter);
+        }
+
+    /**
+     * Return the filter this listener is registered with.
+     *
+     * @return the filter this listener is registered with, or {@code null}
+     *         if it receives all events
+     */
+    public Filter getFilter()
+        {
+        return m_filter;
+        }
+
+    /**
+     * Return {@code true} if this listener is registered as a lite listener.
+     *
+     * @return {@code true} if this listener is registered as a lite listener
+     */
+    public boolean isLite()
+        {
+        return m_fLite;
+        }
+
+    // ---- dispatch statistics ---------------------------------------------
+
+    /**
+     * Return the number of events that are currently queued for dispatch to
+     * the subscribers of this listener.
+     *
+     * @return the number of queued events, which is always zero unless
+     *         asynchronous dispatch is enabled
+     *
+     * @see ObservableMapListenerOptions#withAsyncDispatch
+     */
+    public int getQueuedEventCount()
+        {
+        int[] acQueued = new int[1];
+
+        Consumer<Subscriber<?>> count = subscriber ->
+                {
+                if (subscriber instanceof QueuedSubscriber)
+                    {
+                    acQueued[0] += ((QueuedSubscriber<?, ?>) subscriber).getQueueSize();
+                    }
+                };
+
+        m_subscribers.forEach(count);
+        f_mapKeys.values().forEach(registry -> registry.forEach(count));
+        f_mapAttributes.values().forEach(mapIndex -> mapIndex.values().forEach(registry -> registry.forEach(count)));
+
+        return acQueued[0];
+        }
+
+    /**
+     * Return the number of events that were dropped because a subscriber's
+     * queue was full.
+     *
+     * @return the number of dropped events
+     *
+     * @see ObservableMapListenerOptions#withOverflowStrategy
+     */
+    public long getDroppedEventCount()
+        {
+        return m_cDropped.sum();
+        }
+
+    // ---- indexed streams -------------------------------------------------
+
+    /**
+     * Return an Observable that emits the events for the entry with the
+     * specified key.
+     * <p>
+     * Unlike filtering the events emitted by this listener, which requires
+     * each event to be passed to every subscriber, the subscribers of the
+     * returned observable are indexed by key, so each event is only passed
+     * to the subscribers for its own key.
+     *
+     * @param key  the key of the entry to observe
+     *
+     * @return an {@link Observable} stream of map events for the specified key
+     */
+    public Observable<MapEvent<K, V>> forKey(K key)
+        {
+        if (key == null)
+            {
+            throw new IllegalArgumentException("key must not be null");
+            }
+
+        return indexed(s -> addToIndex(f_mapKeys, key, s),
+                       (s, nHandle) -> removeFromIndex(f_mapKeys, key, s, nHandle));
+        }
+
+    /**
+     * Return an Observable that emits the events for the entries whose old
+     * or new value has the specified attribute value.
+     * <p>
+     * The subscribers of the returned observable are indexed by extractor
+     * and attribute value, so each event is only passed to the subscribers
+     * for the attribute values extracted from the old and the new entry
+     * value. Extractors are compared using {@code equals}, so the same
+     * extractor instance should be used for all subscribers interested in
+     * the same attribute.
+     * <p>
+     * Note that attribute routing relies on the entry values, which may not
+     * be present in the events received by a lite listener.
+     *
+     * @param <E>        the type of the attribute
+     * @param extractor  the extractor to extract the attribute with
+     * @param value      the attribute value to observe
+     *
+     * @return an {@link Observable} stream of map events for the entries
+     *         with the specified attribute value
+     */
+    public <E> Observable<MapEvent<K, V>> forAttribute(ValueExtractor<? super V, ? extends E> extractor, E value)
+        {
+        if (extractor == null || value == null)
+            {
+            throw new IllegalArgumentException("extractor and value must not be null");
+            }
+
+        // the index for the extractor is created and removed while holding
+        // its entry in f_mapAttributes, so a subscriber is never added to an
+        // index that has just been removed because it became empty
+        return indexed(s ->
+                {
+                int[] anHandle = new int[1];
+
+                f_mapAttributes.compute(extractor, (e, mapIndex) ->
+                        {
+                        mapIndex    = mapIndex == null ? new ConcurrentHashMap<>() : mapIndex;
+                        anHandle[0] = addToIndex(mapIndex, value, s);
+
+                        return mapIndex;
+                        });
+
+                return anHandle[0];
+                },
+                (s, nHandle) -> f_mapAttributes.computeIfPresent(extractor, (e, mapIndex) ->
+                        removeFromIndex(mapIndex, value, s, nHandle) ? null : mapIndex));
+        }
+
+    /**
+     * Return an Observable whose subscribers are registered using the
+     * specified function, and unregistered using the specified consumer when
+     * they unsubscribe.
+     *
+     * @param fnRegister    the function that registers a subscriber and
+     *                      returns its registration handle
+     * @param fnUnregister  the consumer that unregisters a subscriber with
+     *                      the specified registration handle
+     *
+     * @return an {@link Observable} stream of map events for the registered
+     *         subscribers
+     */
+    protected Observable<MapEvent<K, V>> indexed(ToIntFunction<Subscriber<? super MapEvent<K, V>>> fnRegister,
+                                                 ObjIntConsumer<Subscriber<? super MapEvent<K, V>>> fnUnregister)
+        {
+        return Observable.create(subscriber ->
+                {
+                Subscriber<? super MapEvent<K, V>> s = dispatcher(subscriber, m_options, m_cDropped);
+
+                if (!s.isUnsubscribed())
+                    {
+                    int nHandle = fnRegister.applyAsInt(s);
+
+                    s.add(Subscriptions.create(() -> fnUnregister.accept(s, nHandle)));
+                    }
+                });
+        }
+
+    /**
+     * Register the specified subscriber in the specified index, under the
+     * specified index key.
+     *
+     * @param mapIndex    the index to register the subscriber in
+     * @param oKey        the index key
+     * @param subscriber  the subscriber to register
+     *
+     * @return the registration handle of the subscriber
+     */
+    protected int addToIndex(ConcurrentMap<Object, SubscriberRegistry<Subscriber<? super MapEvent<K, V>>>> mapIndex,
+                             Object oKey, Subscriber<? super MapEvent<K, V>> subscriber)
+        {
+        int[] anHandle = new int[1];
+
+        mapIndex.compute(oKey, (k, registry) ->
+                {
+                registry    = registry == null ? new SubscriberRegistry<>() : registry;
+                anHandle[0] = registry.register(subscriber);
+
+                return registry;
+                });
+
+        return anHandle[0];
+        }
+
+    /**
+     * Unregister the specified subscriber from the specified index, and
+     * remove the index key if it has no subscribers left.
+     *
+     * @param mapIndex    the index to unregister the subscriber from
+     * @param oKey        the index key
+     * @param subscriber  the subscriber to unregister
+     * @param nHandle     the registration handle of the subscriber
+     *
+     * @return {@code true} if the index is empty afterwards
+     */
+    protected boolean removeFromIndex(
+            ConcurrentMap<Object, SubscriberRegistry<Subscriber<? super MapEvent<K, V>>>> mapIndex,
+            Object oKey, Subscriber<? super MapEvent<K, V>> subscriber, int nHandle)
+        {
+        mapIndex.computeIfPresent(oKey, (k, registry) ->
+                {
+                registry.unregister(nHandle, subscriber);
+
+                return registry.isEmpty() ? null : registry;
+                });
+
+        return mapIndex.isEmpty();
+        }
+
+    // ---- batched stream --------------------------------------------------
+
+    /**
+     * Return an Observable that emits the events received by this listener
+     * in batches, using the computation scheduler to flush incomplete
+     * batches.
+     *
+     * @param cMaxBatch  the maximum number of events in a batch
+     * @param cWindow    the maximum time to wait for a batch to fill up,
+     *                   measured from its first event
+     * @param unit       the time unit of the {@code cWindow} argument
+     *
+     * @return an {@link Observable} stream of event batches
+     *
+     * @see #batches(int, long, TimeUnit, Scheduler)
+     */
+    public Observable<List<MapEvent<K, V>>> batches(int cMaxBatch, long cWindow, TimeUnit unit)
+        {
+        return batches(cMaxBatch, cWindow, unit, Schedulers.computation());
+        }
+
+    /**
+     * Return an Observable that emits the events received by this listener
+     * in batches.
+     * <p>
+     * Events are collected into a batch as they are dispatched, and the
+     * batch is emitted as soon as it contains {@code cMaxBatch} events, or
+     * once {@code cWindow} has elapsed since its first event, whichever comes
+     * first. Unlike the {@code buffer} operator, the batching happens before
+     * the events enter the subscriber's operator chain, so the chain is only
+     * executed once per batch, which allows subscribers to process the
+     * events in a tight loop when the event rate is high. No batches are
+     * emitted while there are no events.
+     * <p>
+     * Batches are only emitted as the subscriber requests them. Completed
+     * batches it has not requested yet are buffered, since the events keep
+     * arriving regardless.
+     *
+     * @param cMaxBatch  the maximum number of events in a batch
+     * @param cWindow    the maximum time to wait for a batch to fill up,
+     *                   measured from its first event
+     * @param unit       the time unit of the {@code cWindow} argument
+     * @param scheduler  the scheduler to flush incomplete batches on
+     *
+     * @return an {@link Observable} stream of event batches
+     */
+    public Observable<List<MapEvent<K, V>>> batches(int cMaxBatch, long cWindow, TimeUnit unit, Scheduler scheduler)
+        {
+        if (cMaxBatch <= 0 || cWindow <= 0L)
+            {
+            throw new IllegalArgumentException("batch size and window must be positive");
+            }
+
+        long cWindowNanos = unit.toNanos(cWindow);
+
+        return Observable.create(child ->
+                register(dispatcher(new BatchingSubscriber<>(child, cMaxBatch, cWindowNanos, scheduler),
+                                    m_options, m_cDropped)));
+        }
+
+    // ---- conflated streams -----------------------------------------------
+
+    /**
+     * Return an Observable that only emits the latest event for each entry
+     * when the subscriber is slower than the rate of change.
+     *
+     * @return an {@link Observable} stream of conflated map events
+     *
+     * @see #conflated(Function)
+     */
+    public Observable<MapEvent<K, V>> conflated()
+        {
+        return conflated(MapEvent::getKey);
+        }
+
+    /**
+     * Return an Observable that only emits the latest event for each
+     * conflation key when the subscriber is slower than the rate of change.
+     * <p>
+     * Instead of being passed on immediately, the events are kept in a map
+     * of pending events, indexed by the conflation key returned by the
+     * specified function, and each event replaces any pending event with the
+     * same key. Pending events are emitted as the subscriber requests more
+     * items, in the order their keys first became pending. This keeps the
+     * memory used by a slow subscriber bounded by the number of distinct
+     * keys, and ensures that it always receives the latest state, instead
+     * of working through a growing backlog of stale updates.
+     * <p>
+     * Conflation only applies when the subscriber limits the number of
+     * items it requests, either directly or by using an operator such as
+     * {@code observeOn}; subscribers that request an unbounded number of
+     * items receive every event.
+     *
+     * @param fnKey  the function that returns the conflation key for an
+     *               event
+     *
+     * @return an {@link Observable} stream of conflated map events
+     */
+    public Observable<MapEvent<K, V>> conflated(Function<? super MapEvent<K, V>, ?> fnKey)
+        {
+        return Observable.create(child ->
+                register(dispatcher(new ConflatingSubscriber<>(child, fnKey), m_options, m_cDropped)));
+        }
+
+    // ---- key stream ------------------------------------------------------
+
+    /**
+     * Return an Observable that emits the key of the entry each event is
+     * for.
+     * <p>
+     * This is typically used with a lite listener, when subscribers only
+     * need to know which entries have changed.
+     *
+     * @return an {@link Observable} stream of the keys of the changed entries
+     */
+    public Observable<K> keys()
+        {
+        return map(MapEvent::getKey);
         }
 
     // ---- MapListener methods ---------------------------------------------
@@ -135,6 +663,845 @@ public class ObservableMapListener<K, V>
     protected void onMapEvent(MapEvent<K, V> evt)
         {
         m_subscribers.forEach(s -> s.onNext(evt));
+
+        if (!f_mapKeys.isEmpty())
+            {
+            dispatch(f_mapKeys.get(evt.getKey()), evt);
+            }
+
+        if (!f_mapAttributes.isEmpty())
+            {
+            f_mapAttributes.forEach((extractor, mapIndex) ->
+                {
+                if (!mapIndex.isEmpty())
+                    {
+                    Object oNew = extract(extractor, evt.getNewValue());
+                    Object oOld = extract(extractor, evt.getOldValue());
+
+                    if (oNew != null)
+                        {
+                        dispatch(mapIndex.get(oNew), evt);
+                        }
+                    if (oOld != null && !oOld.equals(oNew))
+                        {
+                        dispatch(mapIndex.get(oOld), evt);
+                        }
+                    }
+                });
+            }
+        }
+
+    /**
+     * Dispatch the specified event to the subscribers in the specified
+     * registry.
+     *
+     * @param registry  the registry of subscribers, or {@code null}
+     * @param evt       the MapEvent to dispatch
+     */
+    protected void dispatch(SubscriberRegistry<Subscriber<? super MapEvent<K, V>>> registry, MapEvent<K, V> evt)
+        {
+        if (registry != null)
+            {
+            registry.forEach(s -> s.onNext(evt));
+            }
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return the subscriber the events should be dispatched to, which is
+     * either the specified subscriber or a queued subscriber wrapping it,
+     * depending on whether asynchronous dispatch is enabled.
+     *
+     * @param <K>         the type of the entry keys
+     * @param <V>         the type of the entry values
+     * @param subscriber  the subscriber to dispatch the events to
+     * @param options     the options that control how events are dispatched
+     * @param cDropped    the counter of dropped events
+     *
+     * @return the subscriber the events should be dispatched to
+     */
+    protected static <K, V> Subscriber<? super MapEvent<K, V>> dispatcher(Subscriber<? super MapEvent<K, V>> subscriber,
+                                                                        ObservableMapListenerOptions options,
+                                                                        LongAdder cDropped)
+        {
+        return options.getExecutor() == null
+               ? subscriber
+               : new QueuedSubscriber<>(subscriber, options, cDropped);
+        }
+
+    /**
+     * Register the specified subscriber with this listener, and unregister it
+     * when it unsubscribes.
+     *
+     * @param subscriber  the subscriber to register
+     */
+    @SuppressWarnings("unchecked")
+    protected void register(Subscriber<? super MapEvent<K, V>> subscriber)
+        {
+        if (subscriber.isUnsubscribed())
+            {
+            return;
+            }
+
+        Set<Subscriber<? super MapEvent<K, V>>> subscribers = m_subscribers;
+        if (subscribers instanceof SubscriberRegistry)
+            {
+            SubscriberRegistry<Subscriber<? super MapEvent<K, V>>> registry =
+                    (SubscriberRegistry<Subscriber<? super MapEvent<K, V>>>) subscribers;
+
+            int nHandle = registry.register(subscriber);
+            subscriber.add(Subscriptions.create(() -> registry.unregister(nHandle, subscriber)));
+            }
+        else
+            {
+            subscribers.add(subscriber);
+            subscriber.add(Subscriptions.create(() -> subscribers.remove(subscriber)));
+            }
+        }
+
+    /**
+     * Extract the attribute from the specified entry value.
+     *
+     * @param extractor  the extractor to use
+     * @param value      the entry value, which may be {@code null}
+     *
+     * @return the extracted attribute, or {@code null} if the value is
+     *         {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    protected static Object extract(ValueExtractor extractor, Object value)
+        {
+        return value == null ? null : extractor.extract(value);
+        }
+
+    // ---- inner class: BatchingSubscriber ---------------------------------
+
+    /**
+     * A subscriber that collects the events it receives into batches and
+     * emits them to the child subscriber as it requests them.
+     * <p>
+     * Completed batches the child has not requested yet are buffered, and
+     * only one thread emits at a time, without holding the monitor, so a
+     * slow child never blocks the threads that dispatch events or flush
+     * incomplete batches.
+     *
+     * @param <K> the type of the entry keys
+     * @param <V> the type of the entry values
+     */
+    protected static class BatchingSubscriber<K, V>
+            extends Subscriber<MapEvent<K, V>>
+        {
+        /**
+         * Construct BatchingSubscriber instance.
+         *
+         * @param child         the subscriber to emit the batches to
+         * @param cMaxBatch     the maximum number of events in a batch
+         * @param cWindowNanos  the maximum time to wait for a batch to fill
+         *                      up, in nanoseconds
+         * @param scheduler     the scheduler to flush incomplete batches on
+         */
+        protected BatchingSubscriber(Subscriber<? super List<MapEvent<K, V>>> child,
+                                     int cMaxBatch, long cWindowNanos, Scheduler scheduler)
+            {
+            super(child);
+
+            f_child        = child;
+            f_cMaxBatch    = cMaxBatch;
+            f_cWindowNanos = cWindowNanos;
+            f_worker       = scheduler.createWorker();
+
+            add(f_worker);
+            child.setProducer(this::requestMore);
+            }
+
+        @Override
+        public void onNext(MapEvent<K, V> evt)
+            {
+            long nBatch = 0L;
+
+            synchronized (this)
+                {
+                if (m_listBatch == null)
+                    {
+                    m_listBatch = new ArrayList<>(Math.min(f_cMaxBatch, 1024));
+                    nBatch      = ++m_nBatch;
+                    }
+
+                m_listBatch.add(evt);
+
+                if (m_listBatch.size() >= f_cMaxBatch)
+                    {
+                    f_dequeReady.add(m_listBatch);
+                    m_listBatch = null;
+                    nBatch      = 0L;
+                    }
+                }
+
+            if (nBatch != 0L)
+                {
+                long nScheduled = nBatch;
+                f_worker.schedule(() -> flush(nScheduled), f_cWindowNanos, TimeUnit.NANOSECONDS);
+                }
+
+            drain();
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            synchronized (this)
+                {
+                if (m_listBatch != null)
+                    {
+                    f_dequeReady.add(m_listBatch);
+                    m_listBatch = null;
+                    }
+                m_fDone = true;
+                }
+
+            drain();
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            synchronized (this)
+                {
+                m_error = e;
+                }
+
+            drain();
+            }
+
+        /**
+         * Complete the current batch, if it is still the batch with the
+         * specified sequence number, and emit it if the child subscriber has
+         * requested it.
+         *
+         * @param nBatch  the sequence number of the batch to complete
+         */
+        protected void flush(long nBatch)
+            {
+            synchronized (this)
+                {
+                if (m_nBatch != nBatch || m_listBatch == null || isUnsubscribed())
+                    {
+                    return;
+                    }
+
+                f_dequeReady.add(m_listBatch);
+                m_listBatch = null;
+                }
+
+            drain();
+            }
+
+        /**
+         * Add the specified number of batches to the demand of the child
+         * subscriber, and emit as many buffered batches as possible.
+         *
+         * @param n  the number of batches requested by the child subscriber
+         */
+        protected void requestMore(long n)
+            {
+            if (n < 0L)
+                {
+                throw new IllegalArgumentException("n >= 0 required but it was " + n);
+                }
+
+            synchronized (this)
+                {
+                long cRequested = m_cRequested + n;
+                m_cRequested = cRequested < 0L ? Long.MAX_VALUE : cRequested;
+                }
+
+            drain();
+            }
+
+        /**
+         * Emit buffered batches while the child subscriber has outstanding
+         * demand, and the terminal event once all batches have been emitted.
+         * <p>
+         * Only one thread at a time drains; calls made while another thread
+         * is draining are picked up by that thread.
+         */
+        protected void drain()
+            {
+            synchronized (this)
+                {
+                if (m_fEmitting)
+                    {
+                    m_fMissed = true;
+                    return;
+                    }
+                m_fEmitting = true;
+                }
+
+            while (true)
+                {
+                List<MapEvent<K, V>> listBatch = null;
+                Throwable            error     = null;
+                boolean              fComplete = false;
+
+                synchronized (this)
+                    {
+                    if (m_fTerminated || f_child.isUnsubscribed())
+                        {
+                        return;
+                        }
+                    else if (m_error != null)
+                        {
+                        error         = m_error;
+                        m_fTerminated = true;
+                        }
+                    else if (m_cRequested > 0L && !f_dequeReady.isEmpty())
+                        {
+                        listBatch = f_dequeReady.poll();
+                        if (m_cRequested != Long.MAX_VALUE)
+                            {
+                            m_cRequested--;
+                            }
+                        }
+                    else if (m_fDone && f_dequeReady.isEmpty())
+                        {
+                        fComplete     = true;
+                        m_fTerminated = true;
+                        }
+                    else
+                        {
+                        if (!m_fMissed)
+                            {
+                            m_fEmitting = false;
+                            return;
+                            }
+                        m_fMissed = false;
+                        }
+                    }
+
+                if (error != null)
+                    {
+                    f_child.onError(error);
+                    return;
+                    }
+                if (fComplete)
+                    {
+                    f_child.onCompleted();
+                    return;
+                    }
+                if (listBatch != null)
+                    {
+                    f_child.onNext(listBatch);
+                    }
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The subscriber to emit the batches to.
+         */
+        protected final Subscriber<? super List<MapEvent<K, V>>> f_child;
+
+        /**
+         * The maximum number of events in a batch.
+         */
+        protected final int f_cMaxBatch;
+
+        /**
+         * The maximum time to wait for a batch to fill up, in nanoseconds.
+         */
+        protected final long f_cWindowNanos;
+
+        /**
+         * The worker used to flush incomplete batches.
+         */
+        protected final Scheduler.Worker f_worker;
+
+        /**
+         * The completed batches that have not been emitted yet, in order.
+         */
+        protected final Deque<List<MapEvent<K, V>>> f_dequeReady = new ArrayDeque<>();
+
+        /**
+         * The current batch, or {@code null} if no events have been received
+         * since the last batch was completed.
+         */
+        protected List<MapEvent<K, V>> m_listBatch;
+
+        /**
+         * The sequence number of the current batch.
+         */
+        protected long m_nBatch;
+
+        /**
+         * The outstanding demand of the child subscriber.
+         */
+        protected long m_cRequested;
+
+        /**
+         * Flag specifying whether the source has completed.
+         */
+        protected boolean m_fDone;
+
+        /**
+         * The error the source terminated with, if any.
+         */
+        protected Throwable m_error;
+
+        /**
+         * Flag specifying whether the child subscriber has been terminated.
+         */
+        protected boolean m_fTerminated;
+
+        /**
+         * Flag specifying whether a thread is currently emitting batches.
+         */
+        protected boolean m_fEmitting;
+
+        /**
+         * Flag specifying whether the state changed while another thread was
+         * emitting batches.
+         */
+        protected boolean m_fMissed;
+        }
+
+    // ---- inner class: ConflatingSubscriber -------------------------------
+
+    /**
+     * A subscriber that keeps the latest event for each conflation key, and
+     * emits the pending events as the child subscriber requests them.
+     *
+     * @param <K> the type of the entry keys
+     * @param <V> the type of the entry values
+     */
+    protected static class ConflatingSubscriber<K, V>
+            extends Subscriber<MapEvent<K, V>>
+        {
+        /**
+         * Construct ConflatingSubscriber instance.
+         *
+         * @param child  the subscriber to emit the events to
+         * @param fnKey  the function that returns the conflation key for an
+         *               event
+         */
+        protected ConflatingSubscriber(Subscriber<? super MapEvent<K, V>> child,
+                                       Function<? super MapEvent<K, V>, ?> fnKey)
+            {
+            super(child);
+
+            f_child = child;
+            f_fnKey = fnKey;
+
+            child.setProducer(this::requestMore);
+            }
+
+        @Override
+        public void onNext(MapEvent<K, V> evt)
+            {
+            synchronized (this)
+                {
+                m_mapPending.put(f_fnKey.apply(evt), evt);
+                }
+
+            drain();
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            f_child.onCompleted();
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            f_child.onError(e);
+            }
+
+        /**
+         * Return the number of pending events.
+         *
+         * @return the number of pending events
+         */
+        protected synchronized int getPendingCount()
+            {
+            return m_mapPending.size();
+            }
+
+        /**
+         * Add the specified number of items to the demand of the child
+         * subscriber, and emit as many pending events as possible.
+         *
+         * @param n  the number of items requested by the child subscriber
+         */
+        protected void requestMore(long n)
+            {
+            if (n < 0L)
+                {
+                throw new IllegalArgumentException("n >= 0 required but it was " + n);
+                }
+
+            synchronized (this)
+                {
+                long cRequested = m_cRequested + n;
+                m_cRequested = cRequested < 0L ? Long.MAX_VALUE : cRequested;
+                }
+
+            drain();
+            }
+
+        /**
+         * Emit pending events while the child subscriber has outstanding
+         * demand, making sure that only one thread emits at a time.
+         */
+        protected void drain()
+            {
+            synchronized (this)
+                {
+                if (m_fEmitting)
+                    {
+                    m_fMissed = true;
+                    return;
+                    }
+                m_fEmitting = true;
+                }
+
+            while (true)
+                {
+                MapEvent<K, V> evt;
+
+                synchronized (this)
+                    {
+                    if (m_cRequested == 0L || m_mapPending.isEmpty() || f_child.isUnsubscribed())
+                        {
+                        if (!m_fMissed)
+                            {
+                            m_fEmitting = false;
+                            return;
+                            }
+                        m_fMissed = false;
+                        continue;
+                        }
+
+                    Iterator<MapEvent<K, V>> iter = m_mapPending.values().iterator();
+                    evt = iter.next();
+                    iter.remove();
+
+                    if (m_cRequested != Long.MAX_VALUE)
+                        {
+                        m_cRequested--;
+                        }
+                    }
+
+                f_child.onNext(evt);
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The subscriber to emit the events to.
+         */
+        protected final Subscriber<? super MapEvent<K, V>> f_child;
+
+        /**
+         * The function that returns the conflation key for an event.
+         */
+        protected final Function<? super MapEvent<K, V>, ?> f_fnKey;
+
+        /**
+         * The pending events, indexed by conflation key, in the order their
+         * keys first became pending.
+         */
+        protected final Map<Object, MapEvent<K, V>> m_mapPending = new LinkedHashMap<>();
+
+        /**
+         * The outstanding demand of the child subscriber.
+         */
+        protected long m_cRequested;
+
+        /**
+         * Flag specifying whether a thread is currently emitting events.
+         */
+        protected boolean m_fEmitting;
+
+        /**
+         * Flag specifying whether the state changed while another thread was
+         * emitting events.
+         */
+        protected boolean m_fMissed;
+        }
+
+    // ---- inner class: QueuedSubscriber -----------------------------------
+
+    /**
+     * A subscriber that queues the events it receives and delivers them to
+     * the child subscriber on an executor.
+     *
+     * @param <K> the type of the entry keys
+     * @param <V> the type of the entry values
+     */
+    protected static class QueuedSubscriber<K, V>
+            extends Subscriber<MapEvent<K, V>>
+        {
+        /**
+         * Construct QueuedSubscriber instance.
+         *
+         * @param child     the subscriber to deliver the events to
+         * @param options   the options that specify the executor, the queue
+         *                  size and the overflow strategy
+         * @param cDropped  the counter to increment for each dropped event
+         */
+        protected QueuedSubscriber(Subscriber<? super MapEvent<K, V>> child,
+                                   ObservableMapListenerOptions options, LongAdder cDropped)
+            {
+            super(child);
+
+            f_child    = child;
+            f_executor = options.getExecutor();
+            f_overflow = options.getOverflowStrategy();
+            f_queue    = new ArrayBlockingQueue<>(options.getQueueSize());
+            f_cDropped = cDropped;
+            }
+
+        @Override
+        public void onNext(MapEvent<K, V> evt)
+            {
+            if (m_fDone || m_error != null)
+                {
+                return;
+                }
+
+            if (!f_queue.offer(evt))
+                {
+                switch (f_overflow)
+                    {
+                    case DROP_OLDEST:
+                        while (!f_queue.offer(evt))
+                            {
+                            if (f_queue.poll() != null)
+                                {
+                                f_cDropped.increment();
+                                }
+                            }
+                        break;
+
+                    case KEEP_LATEST:
+                        while (!f_queue.offer(evt))
+                            {
+                            while (f_queue.poll() != null)
+                                {
+                                f_cDropped.increment();
+                                }
+                            }
+                        break;
+
+                    case BLOCK:
+                        try
+                            {
+                            f_queue.put(evt);
+                            }
+                        catch (InterruptedException e)
+                            {
+                            Thread.currentThread().interrupt();
+                            f_cDropped.increment();
+                            return;
+                            }
+                        break;
+
+                    case ERROR:
+                        f_cDropped.increment();
+                        m_error = new MissingBackpressureException("subscriber event queue is full");
+                        break;
+                    }
+                }
+
+            schedule();
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            // delivered by the drain loop once the queued events have been
+            m_fCompleted = true;
+            schedule();
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            if (m_error == null)
+                {
+                m_error = e;
+                }
+            schedule();
+            }
+
+        /**
+         * Return the number of events in the queue.
+         *
+         * @return the number of queued events
+         */
+        protected int getQueueSize()
+            {
+            return f_queue.size();
+            }
+
+        /**
+         * Schedule the queue to be drained on the executor, unless the drain
+         * is already in progress.
+         */
+        protected void schedule()
+            {
+            if (f_cWip.getAndIncrement() == 0)
+                {
+                try
+                    {
+                    f_executor.execute(this::drain);
+                    }
+                catch (RejectedExecutionException e)
+                    {
+                    terminate(e);
+                    }
+                }
+            }
+
+        /**
+         * Deliver the queued events to the child subscriber, until the queue
+         * is empty and no more events have been received in the meantime,
+         * followed by the completion if the source has completed.
+         */
+        protected void drain()
+            {
+            int cMissed = 1;
+            while (true)
+                {
+                while (!m_fDone)
+                    {
+                    if (m_error != null)
+                        {
+                        terminate(m_error);
+                        break;
+                        }
+
+                    // read the flag before polling, so an event queued just
+                    // before the completion is never missed
+                    boolean        fCompleted = m_fCompleted;
+                    MapEvent<K, V> evt        = f_queue.poll();
+                    if (evt == null)
+                        {
+                        if (fCompleted)
+                            {
+                            complete();
+                            }
+                        break;
+                        }
+
+                    try
+                        {
+                        f_child.onNext(evt);
+                        }
+                    catch (Throwable t)
+                        {
+                        Exceptions.throwIfFatal(t);
+                        terminate(t);
+                        }
+                    }
+
+                cMissed = f_cWip.addAndGet(-cMissed);
+                if (cMissed == 0)
+                    {
+                    return;
+                    }
+                }
+            }
+
+        /**
+         * Complete the child subscriber.
+         */
+        protected void complete()
+            {
+            m_fDone = true;
+            try
+                {
+                f_child.onCompleted();
+                }
+            finally
+                {
+                unsubscribe();
+                }
+            }
+
+        /**
+         * Discard the queued events and terminate the child subscriber with
+         * the specified error.
+         *
+         * @param e  the error to terminate the child subscriber with
+         */
+        protected void terminate(Throwable e)
+            {
+            m_fDone = true;
+            f_queue.clear();
+            try
+                {
+                f_child.onError(e);
+                }
+            finally
+                {
+                unsubscribe();
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The subscriber to deliver the events to.
+         */
+        protected final Subscriber<? super MapEvent<K, V>> f_child;
+
+        /**
+         * The executor to deliver the events on.
+         */
+        protected final Executor f_executor;
+
+        /**
+         * The strategy to apply when the queue is full.
+         */
+        protected final ObservableMapListenerOptions.OverflowStrategy f_overflow;
+
+        /**
+         * The queued events.
+         */
+        protected final BlockingQueue<MapEvent<K, V>> f_queue;
+
+        /**
+         * The counter to increment for each dropped event.
+         */
+        protected final LongAdder f_cDropped;
+
+        /**
+         * The number of times the queue needs to be checked by the drain
+         * loop, or zero if the drain is not in progress.
+         */
+        protected final AtomicInteger f_cWip = new AtomicInteger();
+
+        /**
+         * The error to terminate the child subscriber with, either because
+         * the queue overflowed with the {@code ERROR} strategy, or because
+         * the source failed.
+         */
+        protected volatile Throwable m_error;
+
+        /**
+         * Flag specifying whether the source has completed.
+         */
+        protected volatile boolean m_fCompleted;
+
+        /**
+         * Flag specifying whether the child subscriber has been terminated.
+         */
+        protected volatile boolean m_fDone;
         }
 
     // ---- data members ----------------------------------------------------
@@ -143,4 +1510,38 @@ public class ObservableMapListener<K, V>
      * A set of active subscribers.
      */
     protected Set<Subscriber<? super MapEvent<K, V>>> m_subscribers;
+
+    /**
+     * The filter to register this listener with.
+     */
+    protected Filter m_filter;
+
+    /**
+     * Flag specifying whether to register this listener as a lite listener.
+     */
+    protected boolean m_fLite;
+
+    /**
+     * The number of events dropped by the subscriber queues.
+     */
+    protected LongAdder m_cDropped;
+
+    /**
+     * The options that control how events are dispatched.
+     */
+    protected ObservableMapListenerOptions m_options;
+
+    /**
+     * The subscribers of the {@link #forKey} streams, indexed by key.
+     */
+    protected final ConcurrentMap<Object, SubscriberRegistry<Subscriber<? super MapEvent<K, V>>>> f_mapKeys =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The subscribers of the {@link #forAttribute} streams, indexed by
+     * extractor and attribute value.
+     */
+    protected final ConcurrentMap<ValueExtractor,
+            ConcurrentMap<Object, SubscriberRegistry<Subscriber<? super MapEvent<K, V>>>>> f_mapAttributes =
+            new ConcurrentHashMap<>();
     }
@@ -0,0 +1,239 @@
+/*
+ * File: ObservableMapListenerOptions.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import java.util.concurrent.Executor;
+
+
+/**
+ * Immutable set of options that control how an {@link ObservableMapListener}
+ * dispatches events to its subscribers.
+ * <p>
+ * By default, events are dispatched to each subscriber in turn on the thread
+ * that delivered them to the listener, which is typically the event dispatch
+ * thread of the cache service. With asynchronous dispatch enabled, each
+ * subscriber gets its own bounded queue, which is drained on the specified
+ * executor, so a slow subscriber only delays its own events:
+ * <pre>
+ *     ObservableMapListener&lt;K, V&gt; listener = ObservableMapListener.create(null, false,
+ *             ObservableMapListenerOptions.DEFAULT.withAsyncDispatch(executor));
+ * </pre>
+ * When a subscriber's queue is full, the subscriber is terminated with a
+ * {@link rx.exceptions.MissingBackpressureException} by default, so that
+ * the event dispatch thread is never blocked by a slow subscriber.
+ *
+ * @author agent  2026.10.16
+ */
+public final class ObservableMapListenerOptions
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct ObservableMapListenerOptions instance with default settings.
+     */
+    private ObservableMapListenerOptions()
+        {
+        }
+
+    /**
+     * Construct a copy of the specified ObservableMapListenerOptions.
+     *
+     * @param that  the options to copy
+     */
+    private ObservableMapListenerOptions(ObservableMapListenerOptions that)
+        {
+        m_executor   = that.m_executor;
+        m_cQueueSize = that.m_cQueueSize;
+        m_overflow   = that.m_overflow;
+        }
+
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return the executor that events should be dispatched on, or
+     * {@code null} if the events should be dispatched on the thread that
+     * delivered them to the listener.
+     *
+     * @return the executor that events should be dispatched on
+     */
+    public Executor getExecutor()
+        {
+        return m_executor;
+        }
+
+    /**
+     * Return the maximum number of events that will be queued for each
+     * subscriber when asynchronous dispatch is enabled.
+     *
+     * @return the maximum number of queued events per subscriber
+     */
+    public int getQueueSize()
+        {
+        return m_cQueueSize;
+        }
+
+    /**
+     * Return the strategy to apply when a subscriber's queue is full.
+     *
+     * @return the overflow strategy
+     */
+    public OverflowStrategy getOverflowStrategy()
+        {
+        return m_overflow;
+        }
+
+    // ---- fluent API ------------------------------------------------------
+
+    /**
+     * Return a copy of these options that dispatches events to each
+     * subscriber asynchronously, on the specified executor.
+     * <p>
+     * Each subscriber gets its own queue of at most {@link #getQueueSize()}
+     * events, and receives the events in the order they were delivered to
+     * the listener, but never concurrently.
+     *
+     * @param executor  the executor to dispatch events on, or {@code null}
+     *                  to dispatch them on the thread that delivered them to
+     *                  the listener
+     *
+     * @return a copy of these options that dispatches events on the
+     *         specified executor
+     */
+    public ObservableMapListenerOptions withAsyncDispatch(Executor executor)
+        {
+        ObservableMapListenerOptions options = new ObservableMapListenerOptions(this);
+        options.m_executor = executor;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with the specified queue size.
+     *
+     * @param cQueueSize  the maximum number of events to queue for each
+     *                    subscriber when asynchronous dispatch is enabled
+     *
+     * @return a copy of these options with the specified queue size
+     */
+    public ObservableMapListenerOptions withQueueSize(int cQueueSize)
+        {
+        if (cQueueSize <= 0)
+            {
+            throw new IllegalArgumentException("queue size must be positive");
+            }
+
+        ObservableMapListenerOptions options = new ObservableMapListenerOptions(this);
+        options.m_cQueueSize = cQueueSize;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with the specified overflow strategy.
+     * <p>
+     * The default strategy is {@link OverflowStrategy#ERROR}. Be careful when
+     * selecting {@link OverflowStrategy#BLOCK}, as it allows a single slow
+     * subscriber to stall the event dispatch thread of the cache service.
+     *
+     * @param overflow  the strategy to apply when a subscriber's queue is full
+     *
+     * @return a copy of these options with the specified overflow strategy
+     */
+    public ObservableMapListenerOptions withOverflowStrategy(OverflowStrategy overflow)
+        {
+        if (overflow == null)
+            {
+            throw new IllegalArgumentException("overflow strategy must not be null");
+            }
+
+        ObservableMapListenerOptions options = new ObservableMapListenerOptions(this);
+        options.m_overflow = overflow;
+
+        return options;
+        }
+
+    // ---- inner enum: OverflowStrategy ------------------------------------
+
+    /**
+     * The strategies that can be applied when a subscriber's queue is full.
+     */
+    public enum OverflowStrategy
+        {
+        /**
+         * Discard the oldest queued event to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard all queued events, and only keep the new one. This is
+         * useful when subscribers are only interested in the latest state.
+         */
+        KEEP_LATEST,
+
+        /**
+         * Block the thread that delivered the event to the listener until
+         * there is room in the queue.
+         * <p>
+         * <b>Warning:</b> the blocked thread is typically the event dispatch
+         * thread of the cache service, so a single slow subscriber will stall
+         * the delivery of events to all other subscribers and listeners of
+         * the same cache service, and can eventually cause the service to be
+         * considered unresponsive. Only use this strategy if every subscriber
+         * is guaranteed to keep up with the rate of events.
+         */
+        BLOCK,
+
+        /**
+         * Terminate the subscriber with a
+         * {@link rx.exceptions.MissingBackpressureException}; this is the
+         * default strategy.
+         */
+        ERROR
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The default maximum number of queued events per subscriber.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    /**
+     * The default options, which dispatch events synchronously.
+     */
+    public static final ObservableMapListenerOptions DEFAULT = new ObservableMapListenerOptions();
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The executor to dispatch events on.
+     */
+    private Executor m_executor;
+
+    /**
+     * The maximum number of queued events per subscriber.
+     */
+    private int m_cQueueSize = DEFAULT_QUEUE_SIZE;
+
+    /**
+     * The strategy to apply when a subscriber's queue is full.
+     */
+    private OverflowStrategy m_overflow = OverflowStrategy.ERROR;
+    }
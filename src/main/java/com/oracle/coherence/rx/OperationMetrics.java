@@ -0,0 +1,448 @@
+/*
+ * File: OperationMetrics.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Observable;
+import rx.Subscriber;
+
+import rx.subscriptions.Subscriptions;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Metrics for a single {@link RxNamedCache} operation, collected by
+ * {@link MetricsRxNamedCache}.
+ * <p>
+ * The latency of a call is measured from the moment the returned observable
+ * is subscribed to until it emits its terminal event, and the time spent in
+ * the downstream subscriber callbacks is recorded separately. Comparing the
+ * two histograms shows whether slow calls are caused by the round trip to
+ * the cluster or by the subscriber chain.
+ *
+ * @author agent  2026.10.16
+ * @see MetricsRxNamedCache
+ */
+public class OperationMetrics
+        implements OperationMetricsMBean
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct OperationMetrics instance.
+     *
+     * @param sName  the name of the operation
+     */
+    public OperationMetrics(String sName)
+        {
+        f_sName = sName;
+        }
+
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return the histogram of call latencies, in nanoseconds.
+     *
+     * @return the histogram of call latencies
+     */
+    public Histogram getLatencyHistogram()
+        {
+        return f_histLatency;
+        }
+
+    /**
+     * Return the histogram of the time each call spent in the downstream
+     * subscriber callbacks, in nanoseconds.
+     *
+     * @return the histogram of subscriber times
+     */
+    public Histogram getSubscriberTimeHistogram()
+        {
+        return f_histSubscriber;
+        }
+
+    /**
+     * Return the histogram of the number of items emitted by each call.
+     *
+     * @return the histogram of items emitted per call
+     */
+    public Histogram getEntriesHistogram()
+        {
+        return f_histEntries;
+        }
+
+    /**
+     * Return the call latency at the specified percentile.
+     *
+     * @param dPercentile  the percentile, between 0 and 100
+     * @param unit         the time unit to return the result in
+     *
+     * @return the call latency at the specified percentile
+     */
+    public long getLatency(double dPercentile, TimeUnit unit)
+        {
+        return unit.convert(f_histLatency.getValueAtPercentile(dPercentile), TimeUnit.NANOSECONDS);
+        }
+
+    // ---- OperationMetricsMBean interface ---------------------------------
+
+    @Override
+    public String getName()
+        {
+        return f_sName;
+        }
+
+    @Override
+    public long getCallCount()
+        {
+        return f_cCalls.sum();
+        }
+
+    @Override
+    public long getInFlightCount()
+        {
+        return f_cInFlight.get();
+        }
+
+    @Override
+    public long getErrorCount()
+        {
+        return f_cErrors.sum();
+        }
+
+    @Override
+    public long getCancelledCount()
+        {
+        return f_cCancelled.sum();
+        }
+
+    @Override
+    public long getEntriesEmitted()
+        {
+        return f_cEntries.sum();
+        }
+
+    @Override
+    public double getEntriesPerCallMean()
+        {
+        return f_histEntries.getMean();
+        }
+
+    @Override
+    public long getEntriesPerCallMax()
+        {
+        return f_histEntries.getMax();
+        }
+
+    @Override
+    public double getLatencyMeanMillis()
+        {
+        return f_histLatency.getMean() / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getLatencyP50Millis()
+        {
+        return f_histLatency.getValueAtPercentile(50.0) / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getLatencyP99Millis()
+        {
+        return f_histLatency.getValueAtPercentile(99.0) / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getLatencyP999Millis()
+        {
+        return f_histLatency.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getLatencyMaxMillis()
+        {
+        return f_histLatency.getMax() / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getSubscriberTimeP99Millis()
+        {
+        return f_histSubscriber.getValueAtPercentile(99.0) / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public double getSubscriberTimeMaxMillis()
+        {
+        return f_histSubscriber.getMax() / NANOS_PER_MILLI;
+        }
+
+    @Override
+    public void reset()
+        {
+        f_cCalls.reset();
+        f_cErrors.reset();
+        f_cCancelled.reset();
+        f_cEntries.reset();
+        f_histLatency.reset();
+        f_histSubscriber.reset();
+        f_histEntries.reset();
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return an operator that records the metrics of each subscription to
+     * the observable it is applied to into this object.
+     *
+     * @param <T>  the type of the emitted items
+     *
+     * @return an operator that records call metrics into this object
+     */
+    public <T> Observable.Operator<T, T> operator()
+        {
+        return child -> new MeteredSubscriber<T>(child);
+        }
+
+    // ---- Object methods --------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "OperationMetrics{"
+               + "name=" + f_sName
+               + ", calls=" + getCallCount()
+               + ", inFlight=" + getInFlightCount()
+               + ", errors=" + getErrorCount()
+               + ", cancelled=" + getCancelledCount()
+               + ", entries=" + getEntriesEmitted()
+               + ", p50Millis=" + String.format("%.3f", getLatencyP50Millis())
+               + ", p99Millis=" + String.format("%.3f", getLatencyP99Millis())
+               + ", p999Millis=" + String.format("%.3f", getLatencyP999Millis())
+               + '}';
+        }
+
+    // ---- inner class: MeteredSubscriber ----------------------------------
+
+    /**
+     * A subscriber that records the metrics of a single call and forwards
+     * all events to the downstream subscriber.
+     *
+     * @param <T> the type of the emitted items
+     */
+    protected class MeteredSubscriber<T>
+            extends Subscriber<T>
+        {
+        /**
+         * Construct MeteredSubscriber instance and record the start of a call.
+         *
+         * @param child  the downstream subscriber
+         */
+        protected MeteredSubscriber(Subscriber<? super T> child)
+            {
+            super(child);
+
+            f_child = child;
+            f_cCalls.increment();
+            f_cInFlight.incrementAndGet();
+
+            child.add(Subscriptions.create(this::cancel));
+            }
+
+        @Override
+        public void onNext(T t)
+            {
+            m_cEntries++;
+
+            long ldtStart = System.nanoTime();
+            try
+                {
+                f_child.onNext(t);
+                }
+            finally
+                {
+                m_cNanosSubscriber += System.nanoTime() - ldtStart;
+                }
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            boolean fFirst   = terminate(false);
+            long    ldtStart = System.nanoTime();
+            try
+                {
+                f_child.onCompleted();
+                }
+            finally
+                {
+                if (fFirst)
+                    {
+                    f_histSubscriber.record(m_cNanosSubscriber + System.nanoTime() - ldtStart);
+                    }
+                }
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            boolean fFirst   = terminate(true);
+            long    ldtStart = System.nanoTime();
+            try
+                {
+                f_child.onError(e);
+                }
+            finally
+                {
+                if (fFirst)
+                    {
+                    f_histSubscriber.record(m_cNanosSubscriber + System.nanoTime() - ldtStart);
+                    }
+                }
+            }
+
+        /**
+         * Record the metrics of a call that has received its terminal event,
+         * unless it was already unsubscribed from.
+         * <p>
+         * This is done before the terminal event is forwarded, so that the
+         * metrics are up to date by the time the subscriber observes it.
+         *
+         * @param fError  {@code true} if the call failed
+         *
+         * @return {@code true} if the metrics were recorded
+         */
+        protected boolean terminate(boolean fError)
+            {
+            if (!f_fDone.compareAndSet(false, true))
+                {
+                return false;
+                }
+
+            f_histLatency.record(System.nanoTime() - f_ldtStart);
+            f_histEntries.record(m_cEntries);
+            f_cEntries.add(m_cEntries);
+            if (fError)
+                {
+                f_cErrors.increment();
+                }
+            f_cInFlight.decrementAndGet();
+
+            return true;
+            }
+
+        /**
+         * Record a call that was unsubscribed from before it terminated.
+         */
+        protected void cancel()
+            {
+            if (f_fDone.compareAndSet(false, true))
+                {
+                f_cInFlight.decrementAndGet();
+                f_cCancelled.increment();
+                }
+            }
+
+        /**
+         * The downstream subscriber.
+         */
+        protected final Subscriber<? super T> f_child;
+
+        /**
+         * The time this call was subscribed to.
+         */
+        protected final long f_ldtStart = System.nanoTime();
+
+        /**
+         * The flag specifying whether this call has terminated or was
+         * unsubscribed from.
+         */
+        protected final AtomicBoolean f_fDone = new AtomicBoolean();
+
+        /**
+         * The number of items emitted by this call.
+         */
+        protected long m_cEntries;
+
+        /**
+         * The time spent by this call in downstream {@code onNext} callbacks,
+         * in nanoseconds.
+         */
+        protected long m_cNanosSubscriber;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The number of nanoseconds in a millisecond.
+     */
+    protected static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The name of the operation.
+     */
+    protected final String f_sName;
+
+    /**
+     * The number of calls.
+     */
+    protected final LongAdder f_cCalls = new LongAdder();
+
+    /**
+     * The number of calls in progress.
+     */
+    protected final AtomicLong f_cInFlight = new AtomicLong();
+
+    /**
+     * The number of failed calls.
+     */
+    protected final LongAdder f_cErrors = new LongAdder();
+
+    /**
+     * The number of cancelled calls.
+     */
+    protected final LongAdder f_cCancelled = new LongAdder();
+
+    /**
+     * The total number of emitted items.
+     */
+    protected final LongAdder f_cEntries = new LongAdder();
+
+    /**
+     * The histogram of call latencies, in nanoseconds.
+     */
+    protected final Histogram f_histLatency = new Histogram();
+
+    /**
+     * The histogram of time spent in subscriber callbacks per call, in
+     * nanoseconds.
+     */
+    protected final Histogram f_histSubscriber = new Histogram();
+
+    /**
+     * The histogram of items emitted per call.
+     */
+    protected final Histogram f_histEntries = new Histogram();
+    }
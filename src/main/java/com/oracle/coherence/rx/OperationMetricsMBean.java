@@ -0,0 +1,143 @@
+/*
+ * File: OperationMetricsMBean.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+/**
+ * The management interface of {@link OperationMetrics}.
+ * <p>
+ * Latencies are reported in milliseconds, with fractional precision.
+ *
+ * @author agent  2026.10.16
+ */
+public interface OperationMetricsMBean
+    {
+    /**
+     * Return the name of the operation.
+     *
+     * @return the name of the operation
+     */
+    String getName();
+
+    /**
+     * Return the number of calls that were made.
+     *
+     * @return the number of calls
+     */
+    long getCallCount();
+
+    /**
+     * Return the number of calls that are currently in progress.
+     *
+     * @return the number of calls in progress
+     */
+    long getInFlightCount();
+
+    /**
+     * Return the number of calls that completed with an error.
+     *
+     * @return the number of failed calls
+     */
+    long getErrorCount();
+
+    /**
+     * Return the number of calls that were unsubscribed from before they
+     * completed.
+     *
+     * @return the number of cancelled calls
+     */
+    long getCancelledCount();
+
+    /**
+     * Return the total number of items emitted by all calls.
+     *
+     * @return the total number of emitted items
+     */
+    long getEntriesEmitted();
+
+    /**
+     * Return the mean number of items emitted by a single call.
+     *
+     * @return the mean number of items emitted per call
+     */
+    double getEntriesPerCallMean();
+
+    /**
+     * Return the largest number of items emitted by a single call.
+     *
+     * @return the largest number of items emitted per call
+     */
+    long getEntriesPerCallMax();
+
+    /**
+     * Return the mean call latency.
+     *
+     * @return the mean call latency, in milliseconds
+     */
+    double getLatencyMeanMillis();
+
+    /**
+     * Return the median call latency.
+     *
+     * @return the median call latency, in milliseconds
+     */
+    double getLatencyP50Millis();
+
+    /**
+     * Return the 99th percentile of call latency.
+     *
+     * @return the 99th percentile of call latency, in milliseconds
+     */
+    double getLatencyP99Millis();
+
+    /**
+     * Return the 99.9th percentile of call latency.
+     *
+     * @return the 99.9th percentile of call latency, in milliseconds
+     */
+    double getLatencyP999Millis();
+
+    /**
+     * Return the longest call latency.
+     *
+     * @return the longest call latency, in milliseconds
+     */
+    double getLatencyMaxMillis();
+
+    /**
+     * Return the 99th percentile of the time a single call spent in the
+     * downstream subscriber callbacks.
+     *
+     * @return the 99th percentile of subscriber time, in milliseconds
+     */
+    double getSubscriberTimeP99Millis();
+
+    /**
+     * Return the longest time a single call spent in the downstream
+     * subscriber callbacks.
+     *
+     * @return the longest subscriber time, in milliseconds
+     */
+    double getSubscriberTimeMaxMillis();
+
+    /**
+     * Reset all metrics, except for the number of calls in progress.
+     */
+    void reset();
+    }
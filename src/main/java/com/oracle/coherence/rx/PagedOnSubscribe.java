@@ -0,0 +1,455 @@
+/*
+ * File: PagedOnSubscribe.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+
+import rx.subscriptions.Subscriptions;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * An {@link Observable.OnSubscribe} implementation that fetches the results
+ * of a bulk operation one page at a time, honoring the backpressure requests
+ * of the subscriber.
+ * <p>
+ * The next page is only fetched once the subscriber has requested more items
+ * than are currently buffered, which ensures that the number of results
+ * buffered on the client is bounded by the page size, regardless of the
+ * overall size of the result set.
+ * <p>
+ * Optionally, a number of pages can be fetched ahead of time while the
+ * subscriber is still processing the current one, which hides the latency
+ * of the page requests at the cost of buffering additional pages.
+ * <p>
+ * When the subscriber unsubscribes, any in-flight page requests are
+ * cancelled and no further pages are requested.
+ *
+ * @param <T> the type of the emitted items
+ *
+ * @author agent  2026.10.16
+ */
+public class PagedOnSubscribe<T>
+        implements Observable.OnSubscribe<T>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct PagedOnSubscribe instance that doesn't read ahead.
+     *
+     * @param cPages   the number of pages to fetch
+     * @param fnFetch  the function that should be used to fetch the page
+     *                 with the specified index
+     */
+    public PagedOnSubscribe(int cPages,
+                            IntFunction<? extends CompletableFuture<? extends Collection<? extends T>>> fnFetch)
+        {
+        this(cPages, 0, fnFetch);
+        }
+
+    /**
+     * Construct PagedOnSubscribe instance.
+     *
+     * @param cPages      the number of pages to fetch
+     * @param cReadAhead  the number of pages to fetch ahead of time, while
+     *                    the subscriber is processing the current page
+     * @param fnFetch     the function that should be used to fetch the page
+     *                    with the specified index
+     */
+    public PagedOnSubscribe(int cPages, int cReadAhead,
+                            IntFunction<? extends CompletableFuture<? extends Collection<? extends T>>> fnFetch)
+        {
+        f_cPages     = cPages;
+        f_cReadAhead = Math.max(0, cReadAhead);
+        f_fnFetch    = fnFetch;
+        }
+
+    // ---- Observable.OnSubscribe interface --------------------------------
+
+    @Override
+    public void call(Subscriber<? super T> subscriber)
+        {
+        PageProducer producer = new PageProducer(subscriber);
+
+        subscriber.add(Subscriptions.create(producer::drain));
+        subscriber.setProducer(producer);
+        }
+
+    // ---- inner class: Page -----------------------------------------------
+
+    /**
+     * The holder for the result of a single page fetch.
+     */
+    protected class Page
+        {
+        /**
+         * Called when the page fetch completes.
+         *
+         * @param colItems  the fetched items
+         * @param error     the error, if the fetch failed
+         */
+        protected void complete(Collection<? extends T> colItems, Throwable error)
+            {
+            m_colItems = colItems == null ? Collections.emptyList() : colItems;
+            m_error    = error;
+            m_fDone    = true;
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The future representing the page fetch; only accessed from within
+         * {@link PageProducer#drain()}.
+         */
+        protected CompletableFuture<?> m_future;
+
+        /**
+         * The fetched items.
+         */
+        protected Collection<? extends T> m_colItems;
+
+        /**
+         * The error that terminated the page fetch, if any.
+         */
+        protected Throwable m_error;
+
+        /**
+         * Flag specifying whether the page fetch has completed; the write to
+         * this field publishes the results.
+         */
+        protected volatile boolean m_fDone;
+        }
+
+    // ---- inner class: PageProducer ---------------------------------------
+
+    /**
+     * A {@link Producer} that fetches pages on demand and emits buffered
+     * items to a single subscriber.
+     */
+    protected class PageProducer
+            implements Producer
+        {
+        /**
+         * Construct PageProducer instance.
+         *
+         * @param subscriber  the subscriber to emit items to
+         */
+        protected PageProducer(Subscriber<? super T> subscriber)
+            {
+            f_subscriber = subscriber;
+            }
+
+        // ---- Producer interface ------------------------------------------
+
+        @Override
+        public void request(long n)
+            {
+            if (n < 0)
+                {
+                throw new IllegalArgumentException("n >= 0 required but it was " + n);
+                }
+
+            if (n > 0)
+                {
+                addRequested(n);
+                drain();
+                }
+            }
+
+        // ---- helper methods ----------------------------------------------
+
+        /**
+         * Emit as many buffered items as the subscriber has requested, and
+         * fetch more pages if there is outstanding demand or read-ahead
+         * capacity left.
+         * <p>
+         * This method can be called concurrently by the subscriber thread and
+         * the threads completing page fetches, but only one of them will emit
+         * items at any given time. It is also called when the subscriber
+         * unsubscribes, in order to cancel any in-flight page requests.
+         */
+        protected void drain()
+            {
+            if (f_cWip.getAndIncrement() != 0)
+                {
+                return;
+                }
+
+            Subscriber<? super T> subscriber = f_subscriber;
+            Deque<Page>           dequePages = f_dequePages;
+            int                   cMissed    = 1;
+
+            do
+                {
+                long cRequested = f_cRequested.get();
+                long cEmitted   = 0L;
+
+                while (cEmitted != cRequested && !subscriber.isUnsubscribed())
+                    {
+                    Iterator<? extends T> iter = m_iterCurrent;
+                    if (iter == null || !iter.hasNext())
+                        {
+                        m_iterCurrent = null;
+
+                        Page page = dequePages.peek();
+                        if (page == null || !page.m_fDone)
+                            {
+                            break;
+                            }
+
+                        dequePages.poll();
+                        if (page.m_error != null)
+                            {
+                            cancel();
+                            subscriber.onError(page.m_error);
+                            return;
+                            }
+
+                        m_iterCurrent = page.m_colItems.iterator();
+                        continue;
+                        }
+
+                    subscriber.onNext(iter.next());
+                    cEmitted++;
+                    }
+
+                if (subscriber.isUnsubscribed())
+                    {
+                    cancel();
+                    return;
+                    }
+
+                if (cEmitted != 0L)
+                    {
+                    cRequested = produced(cEmitted);
+                    }
+
+                boolean fCurrent = m_iterCurrent != null && m_iterCurrent.hasNext();
+
+                // surface errors and empty pages even if there is no demand
+                Page page = dequePages.peek();
+                while (!fCurrent && page != null && page.m_fDone)
+                    {
+                    if (page.m_error != null)
+                        {
+                        cancel();
+                        subscriber.onError(page.m_error);
+                        return;
+                        }
+                    if (!page.m_colItems.isEmpty())
+                        {
+                        break;
+                        }
+
+                    dequePages.poll();
+                    page = dequePages.peek();
+                    }
+
+                if (!fCurrent && dequePages.isEmpty() && m_nPage == f_cPages)
+                    {
+                    subscriber.onCompleted();
+                    return;
+                    }
+
+                // keep at most one page plus read-ahead in flight or buffered,
+                // and only fetch ahead while the subscriber is busy or asking
+                int cWindow = 1 + f_cReadAhead;
+                while (m_nPage < f_cPages
+                       && dequePages.size() + (fCurrent ? 1 : 0) < cWindow
+                       && (cRequested > 0L || fCurrent || !dequePages.isEmpty()))
+                    {
+                    fetch(m_nPage++);
+                    }
+
+                cMissed = f_cWip.addAndGet(-cMissed);
+                }
+            while (cMissed != 0);
+            }
+
+        /**
+         * Asynchronously fetch the page with the specified index.
+         * <p>
+         * This method must only be called from within {@link #drain()}.
+         *
+         * @param nPage  the index of the page to fetch
+         */
+        protected void fetch(int nPage)
+            {
+            Page page = new Page();
+            f_dequePages.add(page);
+
+            CompletableFuture<? extends Collection<? extends T>> future;
+            try
+                {
+                future = f_fnFetch.apply(nPage);
+                }
+            catch (Throwable t)
+                {
+                // make the enclosing drain loop run again, so the error is
+                // delivered without waiting for the next request
+                page.complete(null, t);
+                drain();
+                return;
+                }
+
+            page.m_future = future;
+            future.whenComplete((colItems, error) ->
+                    {
+                    page.complete(colItems, error);
+                    drain();
+                    });
+            }
+
+        /**
+         * Cancel all in-flight page requests and discard all buffered pages.
+         * <p>
+         * This method must only be called from within {@link #drain()}.
+         */
+        protected void cancel()
+            {
+            for (Page page : f_dequePages)
+                {
+                CompletableFuture<?> future = page.m_future;
+                if (future != null && !future.isDone())
+                    {
+                    future.cancel(true);
+                    }
+                }
+
+            f_dequePages.clear();
+            m_iterCurrent = null;
+            m_nPage       = f_cPages;
+            }
+
+        /**
+         * Add the specified number of items to the outstanding demand.
+         *
+         * @param n  the number of additional items requested
+         */
+        protected void addRequested(long n)
+            {
+            while (true)
+                {
+                long cCurrent = f_cRequested.get();
+                long cNew     = cCurrent + n;
+
+                if (cNew < 0L)
+                    {
+                    cNew = Long.MAX_VALUE;
+                    }
+
+                if (f_cRequested.compareAndSet(cCurrent, cNew))
+                    {
+                    return;
+                    }
+                }
+            }
+
+        /**
+         * Subtract the specified number of emitted items from the outstanding
+         * demand.
+         *
+         * @param cEmitted  the number of emitted items
+         *
+         * @return the remaining demand
+         */
+        protected long produced(long cEmitted)
+            {
+            while (true)
+                {
+                long cCurrent = f_cRequested.get();
+                if (cCurrent == Long.MAX_VALUE)
+                    {
+                    return cCurrent;
+                    }
+
+                long cNew = cCurrent - cEmitted;
+                if (f_cRequested.compareAndSet(cCurrent, cNew))
+                    {
+                    return cNew;
+                    }
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The subscriber to emit items to.
+         */
+        protected final Subscriber<? super T> f_subscriber;
+
+        /**
+         * The number of items requested by the subscriber but not emitted yet.
+         */
+        protected final AtomicLong f_cRequested = new AtomicLong();
+
+        /**
+         * The work-in-progress counter used to serialize emission.
+         */
+        protected final AtomicInteger f_cWip = new AtomicInteger();
+
+        /**
+         * The pages that are being fetched or were fetched but not emitted
+         * yet, in page order; only accessed from within {@link #drain()}.
+         */
+        protected final Deque<Page> f_dequePages = new ArrayDeque<>();
+
+        /**
+         * The iterator over the page that is currently being emitted.
+         */
+        protected Iterator<? extends T> m_iterCurrent;
+
+        /**
+         * The index of the next page to fetch.
+         */
+        protected int m_nPage;
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The number of pages to fetch.
+     */
+    protected final int f_cPages;
+
+    /**
+     * The number of pages to fetch ahead of time.
+     */
+    protected final int f_cReadAhead;
+
+    /**
+     * The function that should be used to fetch the page with a given index.
+     */
+    protected final IntFunction<? extends CompletableFuture<? extends Collection<? extends T>>> f_fnFetch;
+    }
@@ -28,18 +28,34 @@ import com.tangosol.net.cache.CacheMap;
 
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ValueExtractor;
 
 import com.tangosol.util.aggregator.Count;
+import com.tangosol.util.aggregator.GroupAggregator;
 
 import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.AndFilter;
+import com.tangosol.util.filter.BetweenFilter;
 
 import com.tangosol.util.function.Remote;
 
 import rx.Observable;
+import rx.Scheduler;
 
+import rx.schedulers.Schedulers;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.LongSupplier;
+
 
 /**
  * Reactive Extensions (RxJava) {@link NamedCache} API.
@@ -64,7 +80,7 @@ public interface RxNamedCache<K, V>
      */
     static <K, V> RxNamedCache<K, V> rx(NamedCache<K, V> cache)
         {
-        return new RxNamedCacheImpl<>(cache.async());
+        return new RxNamedCacheImpl<>(cache, RxNamedCacheOptions.DEFAULT);
         }
 
 
@@ -82,6 +98,74 @@ public interface RxNamedCache<K, V>
         return new RxNamedCacheImpl<>(cache);
         }
 
+    /**
+     * Factory method for RxNamedCache instance.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <V>     the type of the entry values
+     * @param cache   the NamedCache to create the wrapper for
+     * @param options the options that control how operations are executed
+     *
+     * @return  the RxNamedCache instance for the given NamedCache
+     */
+    static <K, V> RxNamedCache<K, V> rx(NamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        return new RxNamedCacheImpl<>(cache, options);
+        }
+
+    /**
+     * Factory method for RxNamedCache instance.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <V>     the type of the entry values
+     * @param cache   the AsyncNamedCache to create the wrapper for
+     * @param options the options that control how operations are executed
+     *
+     * @return  the RxNamedCache instance for the given NamedCache
+     */
+    static <K, V> RxNamedCache<K, V> rx(AsyncNamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        return new RxNamedCacheImpl<>(cache, options);
+        }
+
+    /**
+     * Factory method for RxNamedCache instance that delivers results to
+     * subscribers on the specified scheduler, instead of on the Coherence
+     * thread that completed the underlying cache operation.
+     *
+     * @param <K>       the type of the entry keys
+     * @param <V>       the type of the entry values
+     * @param cache     the NamedCache to create the wrapper for
+     * @param scheduler the scheduler to deliver results on
+     *
+     * @return  the RxNamedCache instance for the given NamedCache
+     *
+     * @see RxNamedCacheOptions#withScheduler(Scheduler)
+     */
+    static <K, V> RxNamedCache<K, V> rx(NamedCache<K, V> cache, Scheduler scheduler)
+        {
+        return rx(cache, RxNamedCacheOptions.DEFAULT.withScheduler(scheduler));
+        }
+
+    /**
+     * Factory method for RxNamedCache instance that delivers results to
+     * subscribers using the specified executor, instead of on the Coherence
+     * thread that completed the underlying cache operation.
+     *
+     * @param <K>      the type of the entry keys
+     * @param <V>      the type of the entry values
+     * @param cache    the NamedCache to create the wrapper for
+     * @param executor the executor to deliver results with
+     *
+     * @return  the RxNamedCache instance for the given NamedCache
+     *
+     * @see RxNamedCacheOptions#withScheduler(Scheduler)
+     */
+    static <K, V> RxNamedCache<K, V> rx(NamedCache<K, V> cache, Executor executor)
+        {
+        return rx(cache, Schedulers.from(executor));
+        }
+
     // ---- CacheMap methods ------------------------------------------------
 
     /**
@@ -175,7 +259,84 @@ public interface RxNamedCache<K, V>
     @SuppressWarnings("unchecked")
     default Observable<Void> putAll(Map<? extends K, ? extends V> map)
         {
-        return (Observable) invokeAll(map.keySet(), CacheProcessors.putAll(map)).filter(entry -> false);
+        return (Observable) invokeAll(map.keySet(), BlindProcessors.putAll(map)).filter(entry -> false);
+        }
+
+    /**
+     * Copies all of the mappings from the specified map to this map, using
+     * multiple smaller requests instead of a single large one.
+     * <p>
+     * The map is split into batches of at most {@code cBatchSize} entries,
+     * and at most {@code cMaxInFlight} batches are written concurrently.
+     * Implementations that know the partition ownership of the underlying
+     * cache group the entries by owning member, so that each batch is sent
+     * to a single member and the load is spread evenly across the cluster.
+     *
+     * @param map           mappings to be added to this map
+     * @param cBatchSize    the maximum number of entries in a single batch
+     * @param cMaxInFlight  the maximum number of batches to write concurrently
+     *
+     * @return an {@link Observable} that will emit the number of entries in
+     *         each batch as it is written, and complete when all batches
+     *         have been written
+     */
+    default Observable<Integer> putAll(Map<? extends K, ? extends V> map, int cBatchSize, int cMaxInFlight)
+        {
+        if (cBatchSize <= 0 || cMaxInFlight <= 0)
+            {
+            throw new IllegalArgumentException("batch size and the number of batches in flight must be positive");
+            }
+
+        return Observable.defer(() ->
+                {
+                List<Map<K, V>> listBatches = new ArrayList<>();
+                Map<K, V>       mapBatch    = null;
+
+                for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+                    {
+                    if (mapBatch == null || mapBatch.size() >= cBatchSize)
+                        {
+                        mapBatch = new HashMap<>();
+                        listBatches.add(mapBatch);
+                        }
+                    mapBatch.put(entry.getKey(), entry.getValue());
+                    }
+
+                return Observable.from(listBatches)
+                        .flatMap(batch -> putAll(batch).toList().map(list -> batch.size()), cMaxInFlight);
+                });
+        }
+
+    /**
+     * Copies all of the entries emitted by the specified observable to this
+     * map, in batches.
+     * <p>
+     * Entries are collected into batches of at most {@code cBatchSize}
+     * entries, and a partially filled batch is written once {@code cWindow}
+     * elapses since its first entry was received. At most {@code cMaxInFlight}
+     * batches are written concurrently, and no more entries are requested from
+     * the specified observable until one of them completes, which bounds the
+     * memory used regardless of the number of entries in the stream.
+     *
+     * @param entries       the entries to add to this map
+     * @param cBatchSize    the maximum number of entries in a single batch
+     * @param cWindow       the maximum time to wait for a batch to fill up
+     * @param unit          the time unit of the {@code cWindow} argument
+     * @param cMaxInFlight  the maximum number of batches to write concurrently
+     *
+     * @return an {@link Observable} that will emit the number of entries in
+     *         each batch as it is written, and complete when the specified
+     *         observable completes and all batches have been written
+     *
+     * @see StreamingPutAll
+     */
+    default Observable<Integer> putAll(Observable<? extends Map.Entry<? extends K, ? extends V>> entries,
+                                       int cBatchSize, long cWindow, TimeUnit unit, int cMaxInFlight)
+        {
+        return entries
+                .lift(new StreamingPutAll<K, V>(map -> putAll(map), cBatchSize, cWindow, unit, cMaxInFlight,
+                                                Schedulers.computation()))
+                .onBackpressureBuffer();
         }
 
     /**
@@ -203,7 +364,7 @@ public interface RxNamedCache<K, V>
     @SuppressWarnings("unchecked")
     default Observable<Void> removeAll(Collection<? extends K> colKeys)
         {
-        return (Observable) invokeAll(colKeys, CacheProcessors.removeBlind()).filter(entry -> false);
+        return (Observable) invokeAll(colKeys, BlindProcessors.remove()).filter(entry -> false);
         }
 
     /**
@@ -218,7 +379,7 @@ public interface RxNamedCache<K, V>
     @SuppressWarnings("unchecked")
     default Observable<Void> removeAll(Filter filter)
         {
-        return (Observable) invokeAll(filter, CacheProcessors.removeBlind()).filter(entry -> false);
+        return (Observable) invokeAll(filter, BlindProcessors.remove()).filter(entry -> false);
         }
 
     // ---- QueryMap methods ------------------------------------------------
@@ -410,6 +571,291 @@ public interface RxNamedCache<K, V>
     <R> Observable<R> aggregate(Filter filter,
                                 InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator);
 
+    // ---- key stream methods ----------------------------------------------
+
+    /**
+     * Get the entries for the keys emitted by the specified observable, if
+     * they are in the cache.
+     * <p>
+     * The keys are grouped into batches of at most {@code cMaxBatch} keys,
+     * whose size adapts to the load: a batch is sent as soon as one of the
+     * {@code cMaxInFlight} concurrent requests completes, and contains all
+     * the keys received in the meantime. The entries are emitted as the
+     * batches complete, so their order is not guaranteed.
+     *
+     * @param keys          the keys to get the entries for
+     * @param cMaxBatch     the maximum number of keys in a single batch
+     * @param cMaxInFlight  the maximum number of batches to process
+     *                      concurrently
+     *
+     * @return an {@link Observable} stream of map entries for the specified
+     *         keys that are in the cache
+     *
+     * @see AdaptiveBatcher
+     */
+    default Observable<? extends Map.Entry<? extends K, ? extends V>>
+    getAll(Observable<? extends K> keys, int cMaxBatch, int cMaxInFlight)
+        {
+        return keys.lift(new AdaptiveBatcher<K>(cMaxBatch))
+                .flatMap(listKeys -> getAll(listKeys), cMaxInFlight);
+        }
+
+    /**
+     * Invoke the passed EntryProcessor against the entries for the keys
+     * emitted by the specified observable.
+     * <p>
+     * The keys are grouped into batches of at most {@code cMaxBatch} keys,
+     * whose size adapts to the load: a batch is sent as soon as one of the
+     * {@code cMaxInFlight} concurrent requests completes, and contains all
+     * the keys received in the meantime. The results are emitted as the
+     * batches complete, so their order is not guaranteed.
+     *
+     * @param <R>           the type of value returned by the EntryProcessor
+     * @param keys          the keys to process
+     * @param processor     the EntryProcessor to use to process the keys
+     * @param cMaxBatch     the maximum number of keys in a single batch
+     * @param cMaxInFlight  the maximum number of batches to process
+     *                      concurrently
+     *
+     * @return an {@link Observable} that will emit the result of the
+     *         invocation for each entry
+     *
+     * @see AdaptiveBatcher
+     */
+    default <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    invokeAll(Observable<? extends K> keys, InvocableMap.EntryProcessor<K, V, R> processor,
+              int cMaxBatch, int cMaxInFlight)
+        {
+        return keys.lift(new AdaptiveBatcher<K>(cMaxBatch))
+                .flatMap(listKeys -> invokeAll(listKeys, processor), cMaxInFlight);
+        }
+
+    /**
+     * Remove the entries for the keys emitted by the specified observable,
+     * if they are present in the cache.
+     * <p>
+     * The keys are grouped into batches of at most {@code cMaxBatch} keys,
+     * whose size adapts to the load, and at most {@code cMaxInFlight} batches
+     * are processed concurrently.
+     *
+     * @param keys          the keys to remove
+     * @param cMaxBatch     the maximum number of keys in a single batch
+     * @param cMaxInFlight  the maximum number of batches to process
+     *                      concurrently
+     *
+     * @return an {@link Observable} that will be completed when all the keys
+     *         have been removed, but will not emit any values
+     *
+     * @see AdaptiveBatcher
+     */
+    default Observable<Void> removeAll(Observable<? extends K> keys, int cMaxBatch, int cMaxInFlight)
+        {
+        return keys.lift(new AdaptiveBatcher<K>(cMaxBatch))
+                .flatMap(listKeys -> removeAll(listKeys), cMaxInFlight);
+        }
+
+    // ---- continuous query methods ----------------------------------------
+
+    /**
+     * Observe the entries that match the specified filter.
+     * <p>
+     * Each subscriber is backed by its own {@code ContinuousQueryCache}, which
+     * registers for changes before it queries the cache, so the subscriber
+     * will first receive an insert event for each entry that matches the
+     * filter at the time of subscription, followed by the insert, update and
+     * delete events for the subsequent changes, without any gaps or
+     * duplicates in between. An entry that stops matching the filter is
+     * reported as deleted.
+     * <p>
+     * The returned observable never completes; the {@code ContinuousQueryCache}
+     * is released when the subscriber unsubscribes. Events arrive regardless
+     * of the subscriber's demand, so the events that have not been requested
+     * yet, including those for the initial population, are buffered without
+     * bound, also when a delivery scheduler is configured. Subscribers that
+     * cannot keep up with the rate of changes should apply
+     * {@code onBackpressureDrop} or {@code onBackpressureLatest} to keep the
+     * buffer from growing.
+     *
+     * @param filter  the Filter that is used to select entries to observe
+     *
+     * @return an {@link Observable} stream of map events for the entries that
+     *         match the specified filter
+     */
+    Observable<MapEvent<K, V>> continuousQuery(Filter filter);
+
+    /**
+     * Observe the entries that match the specified filter, using the values
+     * extracted by the specified extractor instead of the entry values.
+     * <p>
+     * This method behaves like {@link #continuousQuery(Filter)}, but the
+     * extractor is applied within the cluster, so only the extracted values
+     * are sent to the client.
+     *
+     * @param <E>        the type of the extracted values
+     * @param filter     the Filter that is used to select entries to observe
+     * @param extractor  the ValueExtractor to apply to entry values
+     *
+     * @return an {@link Observable} stream of map events for the entries that
+     *         match the specified filter, with extracted values
+     */
+    <E> Observable<MapEvent<K, E>> continuousQuery(Filter filter, ValueExtractor<? super V, ? extends E> extractor);
+
+    // ---- windowed aggregation methods ------------------------------------
+
+    /**
+     * Periodically aggregate the entries that match the specified filter and
+     * were created within a time window, grouped by the specified attribute.
+     *
+     * @param <G>         the type of the group key
+     * @param <R>         the type of the aggregation result for each group
+     * @param filter      the Filter that is used to select entries to
+     *                    aggregate, or {@code null} to select all entries
+     * @param groupBy     the ValueExtractor that returns the group key
+     * @param timestamp   the ValueExtractor that returns the entry timestamp,
+     *                    in milliseconds since the epoch
+     * @param aggregator  the EntryAggregator to apply to each group
+     * @param cWindow     the length of the window
+     * @param cPeriod     the time between two aggregations
+     * @param unit        the time unit of the {@code cWindow} and
+     *                    {@code cPeriod} arguments
+     *
+     * @return an {@link Observable} that will emit the aggregation results
+     *         for each group once per period
+     *
+     * @see #window(Filter, ValueExtractor, ValueExtractor, InvocableMap.EntryAggregator, long, long, TimeUnit, Scheduler)
+     */
+    default <G, R> Observable<Map<G, R>> window(Filter filter,
+                                                ValueExtractor<? super V, ? extends G> groupBy,
+                                                ValueExtractor<? super V, Long> timestamp,
+                                                InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator,
+                                                long cWindow, long cPeriod, TimeUnit unit)
+        {
+        return window(filter, groupBy, timestamp, aggregator, cWindow, cPeriod, unit, Schedulers.computation());
+        }
+
+    /**
+     * Periodically aggregate the entries that match the specified filter and
+     * were created within a time window, grouped by the specified attribute.
+     * <p>
+     * Every {@code cPeriod}, starting immediately, the entries whose timestamp
+     * falls within the last {@code cWindow} are aggregated by the storage
+     * members that own them, using a {@link GroupAggregator}, so only the
+     * aggregation result for each group is sent to the client, regardless
+     * of the rate at which the entries are written. If the period is equal
+     * to the window, consecutive windows don't overlap (tumbling windows);
+     * if it is shorter, they do (sliding windows).
+     * <p>
+     * The window is measured using the clock of the specified scheduler,
+     * which for the built-in schedulers is the client's wall clock. See the
+     * overload that takes a {@link LongSupplier} clock for what that means
+     * for entries written with a different clock, and for how to use the
+     * cluster time instead.
+     *
+     * @param <G>         the type of the group key
+     * @param <R>         the type of the aggregation result for each group
+     * @param filter      the Filter that is used to select entries to
+     *                    aggregate, or {@code null} to select all entries
+     * @param groupBy     the ValueExtractor that returns the group key
+     * @param timestamp   the ValueExtractor that returns the entry timestamp,
+     *                    in milliseconds since the epoch
+     * @param aggregator  the EntryAggregator to apply to each group
+     * @param cWindow     the length of the window
+     * @param cPeriod     the time between two aggregations
+     * @param unit        the time unit of the {@code cWindow} and
+     *                    {@code cPeriod} arguments
+     * @param scheduler   the scheduler to schedule the aggregations on, and
+     *                    to obtain the current time from
+     *
+     * @return an {@link Observable} that will emit the aggregation results
+     *         for each group once per period
+     */
+    default <G, R> Observable<Map<G, R>> window(Filter filter,
+                                                ValueExtractor<? super V, ? extends G> groupBy,
+                                                ValueExtractor<? super V, Long> timestamp,
+                                                InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator,
+                                                long cWindow, long cPeriod, TimeUnit unit, Scheduler scheduler)
+        {
+        return window(filter, groupBy, timestamp, aggregator, cWindow, cPeriod, unit, scheduler, scheduler::now);
+        }
+
+    /**
+     * Periodically aggregate the entries that match the specified filter and
+     * were created within a time window, grouped by the specified attribute,
+     * using the specified clock to determine the window bounds.
+     * <p>
+     * This is client-side polling: every {@code cPeriod}, starting
+     * immediately, the client reads the current time from {@code clock} and
+     * sends an aggregation request for the entries whose timestamp falls
+     * within the last {@code cWindow}, that is between {@code now - cWindow}
+     * (exclusive) and {@code now} (inclusive). The storage members aggregate
+     * the matching entries using a {@link GroupAggregator}, so only the
+     * result for each group is sent back, regardless of the rate at which
+     * the entries are written. Every request evaluates the whole window
+     * again; nothing is maintained incrementally. If the period is equal to
+     * the window, consecutive windows don't overlap (tumbling windows); if
+     * it is shorter, they do (sliding windows).
+     * <p>
+     * The window bounds come from {@code clock}, while the timestamps are
+     * whatever the writers stored in the entries. If the two clocks drift
+     * apart, the window shifts by the same amount: entries written within
+     * the last {@code cWindow} by a writer whose clock is behind are left
+     * out, and entries from a writer whose clock is ahead are counted late.
+     * If the timestamps are written using the Coherence cluster time, pass
+     * {@code () -> CacheFactory.getCluster().getTimeMillis()} as the clock.
+     * <p>
+     * A tick that fires while the previous aggregation is still running is
+     * dropped, and is not made up later. The next aggregation covers the
+     * window that ends at the time it starts.
+     *
+     * @param <G>         the type of the group key
+     * @param <R>         the type of the aggregation result for each group
+     * @param filter      the Filter that is used to select entries to
+     *                    aggregate, or {@code null} to select all entries
+     * @param groupBy     the ValueExtractor that returns the group key
+     * @param timestamp   the ValueExtractor that returns the entry timestamp,
+     *                    in milliseconds since the epoch
+     * @param aggregator  the EntryAggregator to apply to each group
+     * @param cWindow     the length of the window
+     * @param cPeriod     the time between two aggregations
+     * @param unit        the time unit of the {@code cWindow} and
+     *                    {@code cPeriod} arguments
+     * @param scheduler   the scheduler to schedule the aggregations on
+     * @param clock       the clock that returns the current time, in
+     *                    milliseconds since the epoch, used as the end of
+     *                    each window
+     *
+     * @return an {@link Observable} that will emit the aggregation results
+     *         for each group once per period
+     */
+    @SuppressWarnings("unchecked")
+    default <G, R> Observable<Map<G, R>> window(Filter filter,
+                                                ValueExtractor<? super V, ? extends G> groupBy,
+                                                ValueExtractor<? super V, Long> timestamp,
+                                                InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator,
+                                                long cWindow, long cPeriod, TimeUnit unit, Scheduler scheduler,
+                                                LongSupplier clock)
+        {
+        if (cWindow <= 0L || cPeriod <= 0L)
+            {
+            throw new IllegalArgumentException("window and period must be positive");
+            }
+
+        Filter                       filterBase   = filter == null ? AlwaysFilter.INSTANCE : filter;
+        long                         cWindowMs    = unit.toMillis(cWindow);
+        InvocableMap.EntryAggregator aggregatorBy = GroupAggregator.createInstance(groupBy, aggregator);
+
+        return Observable.interval(0L, cPeriod, unit, scheduler)
+                .onBackpressureDrop()
+                .concatMap(tick ->
+                        {
+                        long ldtNow = clock.getAsLong();
+
+                        return (Observable<Map<G, R>>) aggregate(
+                                new AndFilter(filterBase, new BetweenFilter(timestamp, ldtNow - cWindowMs + 1, ldtNow)),
+                                aggregatorBy);
+                        });
+        }
+
     // ---- Map methods -----------------------------------------------------
 
     /**
@@ -666,7 +1112,7 @@ public interface RxNamedCache<K, V>
     default Observable<Void> replaceAll(Collection<? extends K> collKeys,
                                         Remote.BiFunction<? super K, ? super V, ? extends V> function)
         {
-        return (Observable) invokeAll(collKeys, CacheProcessors.replace(function)).filter(e -> false);
+        return (Observable) invokeAll(collKeys, BlindProcessors.replace(function)).filter(e -> false);
         }
 
     /**
@@ -684,6 +1130,6 @@ public interface RxNamedCache<K, V>
     default Observable<Void> replaceAll(Filter filter,
                                         Remote.BiFunction<? super K, ? super V, ? extends V> function)
         {
-        return (Observable) invokeAll(filter, CacheProcessors.replace(function)).filter(e -> false);
+        return (Observable) invokeAll(filter, BlindProcessors.replace(function)).filter(e -> false);
         }
     }
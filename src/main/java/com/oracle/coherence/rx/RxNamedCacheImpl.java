@@ -20,15 +20,48 @@ package com.oracle.coherence.rx;
 
 
 import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.ContinuousQueryCache;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+import com.tangosol.net.partition.PartitionSet;
 
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+import com.tangosol.util.MultiplexingMapListener;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.ReducerAggregator;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+import com.tangosol.util.extractor.KeyExtractor;
+
+import com.tangosol.util.filter.PartitionedFilter;
 
 import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+
+import rx.subscriptions.Subscriptions;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.function.Function;
 
 
 /**
@@ -49,7 +82,43 @@ public class RxNamedCacheImpl<K, V>
      */
     protected RxNamedCacheImpl(AsyncNamedCache<K, V> cache)
         {
-        m_cache = cache;
+        this(cache, RxNamedCacheOptions.DEFAULT);
+        }
+
+    /**
+     * Construct RxNamedCacheImpl instance.
+     *
+     * @param cache    the wrapped AsyncNamedCache to delegate invocations to
+     * @param options  the options that control how operations are executed
+     */
+    protected RxNamedCacheImpl(AsyncNamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        this(cache, options, getFrontMap(cache.getNamedCache()));
+        }
+
+    /**
+     * Construct RxNamedCacheImpl instance.
+     *
+     * @param cache    the wrapped NamedCache to delegate invocations to
+     * @param options  the options that control how operations are executed
+     */
+    protected RxNamedCacheImpl(NamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        this(cache.async(), options, getFrontMap(cache));
+        }
+
+    /**
+     * Construct RxNamedCacheImpl instance.
+     *
+     * @param cache     the wrapped AsyncNamedCache to delegate invocations to
+     * @param options   the options that control how operations are executed
+     * @param mapFront  the front map of the wrapped near cache, if any
+     */
+    protected RxNamedCacheImpl(AsyncNamedCache<K, V> cache, RxNamedCacheOptions options, Map<K, V> mapFront)
+        {
+        m_cache    = cache;
+        m_options  = options == null ? RxNamedCacheOptions.DEFAULT : options;
+        m_mapFront = m_options.isFrontMapReads() ? mapFront : null;
         }
 
     // ---- RxNamedCache interface ------------------------------------------
@@ -57,146 +126,679 @@ public class RxNamedCacheImpl<K, V>
     @Override
     public <R> Observable<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return Observable
-                .create(s -> m_cache.invoke(key, processor)
-                        .handle((r, t) ->
-                                {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onNext(r);
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+        return deliver(Observable.<R>create(s -> emitResult(s, m_cache.invoke(key, processor))), true);
         }
 
     @Override
     public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
     invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return Observable
-                .create(s -> m_cache.invokeAll(collKeys, processor, entry -> s.onNext(entry))
-                        .handle((r, t) ->
-                                {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+        if (m_options.isStreaming())
+            {
+            return deliver(streamInvokeAll(collKeys, processor), true);
+            }
+
+        return deliver(Observable.<Map.Entry<? extends K, ? extends R>>create(s ->
+                emitCompletion(s, m_cache.invokeAll(collKeys, processor, entry ->
+                        {
+                        if (!s.isUnsubscribed())
+                            {
+                            s.onNext(entry);
+                            }
+                        }))), false);
         }
 
     @Override
     public <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
     invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return Observable
-                .create(s -> m_cache.invokeAll(filter, processor, entry -> s.onNext(entry))
-                        .handle((r, t) ->
-                                {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+        if (m_options.isStreaming())
+            {
+            return deliver(streamInvokeAll(filter, processor), true);
+            }
+
+        return deliver(Observable.<Map.Entry<? extends K, ? extends R>>create(s ->
+                emitCompletion(s, m_cache.invokeAll(filter, processor, entry ->
+                        {
+                        if (!s.isUnsubscribed())
+                            {
+                            s.onNext(entry);
+                            }
+                        }))), false);
         }
 
     @Override
     public <R> Observable<R> aggregate(Collection<? extends K> collKeys,
                                        InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
         {
-        return Observable
-                .create(s -> m_cache.aggregate(collKeys, aggregator)
-                        .handle((r, t) ->
-                                {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onNext(r);
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+        return deliver(Observable.<R>create(s -> emitResult(s, m_cache.aggregate(collKeys, aggregator))), true);
         }
 
     @Override
     public <R> Observable<R> aggregate(Filter filter,
                                        InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
         {
-        return Observable
-                .create(s -> m_cache.aggregate(filter, aggregator)
-                        .handle((r, t) ->
-                                {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onNext(r);
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+        return deliver(Observable.<R>create(s -> emitResult(s, m_cache.aggregate(filter, aggregator))), true);
         }
 
     @Override
     public Observable<Void> putAll(Map<? extends K, ? extends V> map)
         {
-        return Observable
-                .create(s -> m_cache.putAll(map)
-                        .handle((r, t) ->
+        return deliver(Observable.<Void>create(s -> emitCompletion(s, m_cache.putAll(map))), true);
+        }
+
+    @Override
+    public Observable<Integer> putAll(Map<? extends K, ? extends V> map, int cBatchSize, int cMaxInFlight)
+        {
+        if (cBatchSize <= 0 || cMaxInFlight <= 0)
+            {
+            throw new IllegalArgumentException("batch size and the number of batches in flight must be positive");
+            }
+
+        return deliver(Observable.defer(() -> Observable.from(splitByOwner(map, cBatchSize)))
+                .flatMap(mapBatch -> Observable.<Integer>create(s ->
+                        emitResult(s, m_cache.putAll(mapBatch).thenApply(v -> mapBatch.size()))), cMaxInFlight), true);
+        }
+
+    /**
+     * Split the specified map into batches of at most {@code cBatchSize}
+     * entries, each containing only the entries owned by a single member.
+     * <p>
+     * The batches for different members are interleaved, so that the batches
+     * that are in flight at the same time are spread across the cluster. If
+     * the cache is not partitioned, the map is simply split in iteration
+     * order.
+     *
+     * @param map         the map to split
+     * @param cBatchSize  the maximum number of entries in a single batch
+     *
+     * @return the list of batches
+     */
+    protected List<Map<K, V>> splitByOwner(Map<? extends K, ? extends V> map, int cBatchSize)
+        {
+        CacheService                 service   = m_cache.getNamedCache().getCacheService();
+        Map<Member, List<Map<K, V>>> mapOwners = new LinkedHashMap<>();
+
+        if (service instanceof PartitionedService)
+            {
+            PartitionedService      servicePart = (PartitionedService) service;
+            KeyPartitioningStrategy strategy    = servicePart.getKeyPartitioningStrategy();
+            Member[]                aOwner      = new Member[servicePart.getPartitionCount()];
+            boolean[]               afResolved  = new boolean[aOwner.length];
+
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+                {
+                int nPart = strategy.getKeyPartition(entry.getKey());
+                if (!afResolved[nPart])
+                    {
+                    aOwner[nPart]     = servicePart.getPartitionOwner(nPart);
+                    afResolved[nPart] = true;
+                    }
+
+                addToBatch(mapOwners.computeIfAbsent(aOwner[nPart], member -> new ArrayList<>()), entry, cBatchSize);
+                }
+            }
+        else
+            {
+            List<Map<K, V>> listBatches = new ArrayList<>();
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+                {
+                addToBatch(listBatches, entry, cBatchSize);
+                }
+            mapOwners.put(null, listBatches);
+            }
+
+        int             cBatches   = countBatches(mapOwners);
+        List<Map<K, V>> listResult = new ArrayList<>(cBatches);
+        for (int i = 0; listResult.size() < cBatches; i++)
+            {
+            for (List<Map<K, V>> listBatches : mapOwners.values())
+                {
+                if (i < listBatches.size())
+                    {
+                    listResult.add(listBatches.get(i));
+                    }
+                }
+            }
+
+        return listResult;
+        }
+
+    /**
+     * Add the specified entry to the last batch in the list, or to a new
+     * batch if the last one is full.
+     *
+     * @param listBatches  the list of batches
+     * @param entry        the entry to add
+     * @param cBatchSize   the maximum number of entries in a single batch
+     */
+    protected void addToBatch(List<Map<K, V>> listBatches, Map.Entry<? extends K, ? extends V> entry, int cBatchSize)
+        {
+        Map<K, V> mapBatch = listBatches.isEmpty() ? null : listBatches.get(listBatches.size() - 1);
+        if (mapBatch == null || mapBatch.size() >= cBatchSize)
+            {
+            mapBatch = new HashMap<>();
+            listBatches.add(mapBatch);
+            }
+        mapBatch.put(entry.getKey(), entry.getValue());
+        }
+
+    /**
+     * Return the total number of batches across all owners.
+     *
+     * @param mapOwners  the batches for each owner
+     *
+     * @return the total number of batches
+     */
+    protected int countBatches(Map<Member, List<Map<K, V>>> mapOwners)
+        {
+        int cBatches = 0;
+        for (List<Map<K, V>> listBatches : mapOwners.values())
+            {
+            cBatches += listBatches.size();
+            }
+
+        return cBatches;
+        }
+
+    // ---- front map reads -------------------------------------------------
+
+    @Override
+    public Observable<V> get(K key)
+        {
+        Map<K, V> mapFront = m_mapFront;
+        if (mapFront == null)
+            {
+            return RxNamedCache.super.get(key);
+            }
+
+        return Observable.create(s ->
+                {
+                V value = mapFront.get(key);
+                if (value == null)
+                    {
+                    RxNamedCache.super.get(key).unsafeSubscribe(s);
+                    }
+                else if (!s.isUnsubscribed())
+                    {
+                    s.onNext(value);
+                    s.onCompleted();
+                    }
+                });
+        }
+
+    /**
+     * Return the front map of the specified cache, if it is a near cache.
+     *
+     * @param <K>    the type of the entry keys
+     * @param <V>    the type of the entry values
+     * @param cache  the cache
+     *
+     * @return the front map of the specified cache, or {@code null} if the
+     *         cache is not a near cache
+     */
+    @SuppressWarnings("unchecked")
+    protected static <K, V> Map<K, V> getFrontMap(NamedCache<K, V> cache)
+        {
+        return cache instanceof CachingMap ? ((CachingMap<K, V>) cache).getFrontMap() : null;
+        }
+
+    // ---- lock-free reads -------------------------------------------------
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> getAll(Collection<? extends K> colKeys)
+        {
+        if (m_options.isLockFreeReads())
+            {
+            return reduce(colKeys, ValueExtractor.identity()).filter(e -> e.getValue() != null);
+            }
+
+        return RxNamedCache.super.getAll(colKeys);
+        }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Observable<K> keySet(Filter filter)
+        {
+        if (m_options.isLockFreeReads())
+            {
+            ValueExtractor<V, K> extractor = new KeyExtractor(IdentityExtractor.INSTANCE);
+
+            return reduce(filter, extractor).map(Map.Entry::getKey);
+            }
+
+        return RxNamedCache.super.keySet(filter);
+        }
+
+    @Override
+    public Observable<? extends Map.Entry<? extends K, ? extends V>> entrySet(Filter filter)
+        {
+        if (m_options.isLockFreeReads())
+            {
+            return reduce(filter, ValueExtractor.identity());
+            }
+
+        return RxNamedCache.super.entrySet(filter);
+        }
+
+    @Override
+    public Observable<V> values(Filter filter)
+        {
+        if (m_options.isLockFreeReads())
+            {
+            return reduce(filter, ValueExtractor.identity()).map(Map.Entry::getValue);
+            }
+
+        return RxNamedCache.super.values(filter);
+        }
+
+    /**
+     * Extract a value from each entry specified by the passed keys using
+     * a {@link ReducerAggregator}, which does not lock the entries.
+     *
+     * @param <E>        the type of the extracted values
+     * @param collKeys   the keys of the entries to extract values from
+     * @param extractor  the extractor to use
+     *
+     * @return an {@link Observable} that will emit the extracted value for
+     *         each entry, keyed by the entry key
+     */
+    @SuppressWarnings("unchecked")
+    protected <E> Observable<? extends Map.Entry<? extends K, ? extends E>>
+    reduce(Collection<? extends K> collKeys, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        if (m_options.isStreaming())
+            {
+            return deliver(this.<E>pageByKeys(collKeys, colPage ->
+                    m_cache.aggregate(colPage, new ReducerAggregator(extractor))), true);
+            }
+
+        return deliver(Observable.<Map<K, E>>create(s ->
+                emitResult(s, m_cache.aggregate(collKeys, new ReducerAggregator(extractor)))), true)
+                .flatMapIterable(map -> map.entrySet());
+        }
+
+    /**
+     * Extract a value from each entry selected by the given Filter using
+     * a {@link ReducerAggregator}, which does not lock the entries.
+     *
+     * @param <E>        the type of the extracted values
+     * @param filter     the Filter that selects the entries to extract values
+     *                   from
+     * @param extractor  the extractor to use
+     *
+     * @return an {@link Observable} that will emit the extracted value for
+     *         each entry, keyed by the entry key
+     */
+    @SuppressWarnings("unchecked")
+    protected <E> Observable<? extends Map.Entry<? extends K, ? extends E>>
+    reduce(Filter filter, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        if (m_options.isStreaming())
+            {
+            return deliver(this.<E>pageByPartitions(filter, filterPage ->
+                    m_cache.aggregate(filterPage, new ReducerAggregator(extractor))), true);
+            }
+
+        return deliver(Observable.<Map<K, E>>create(s ->
+                emitResult(s, m_cache.aggregate(filter, new ReducerAggregator(extractor)))), true)
+                .flatMapIterable(map -> map.entrySet());
+        }
+
+    // ---- continuous queries ----------------------------------------------
+
+    @Override
+    public Observable<MapEvent<K, V>> continuousQuery(Filter filter)
+        {
+        NamedCache<K, V> cache = m_cache.getNamedCache();
+
+        return continuousQueryEvents(listener -> new ContinuousQueryCache<>(cache, filter, listener));
+        }
+
+    @Override
+    public <E> Observable<MapEvent<K, E>> continuousQuery(Filter filter, ValueExtractor<? super V, ? extends E> extractor)
+        {
+        NamedCache<K, V> cache = m_cache.getNamedCache();
+
+        return continuousQueryEvents(listener -> new ContinuousQueryCache<>(cache, filter, listener, extractor));
+        }
+
+    /**
+     * Create an observable that emits the events raised by a
+     * ContinuousQueryCache, which is created when a subscriber subscribes and
+     * released when it unsubscribes.
+     * <p>
+     * The listener is passed to the ContinuousQueryCache constructor, so it
+     * receives the events for the initial population of the cache as well.
+     * <p>
+     * The events are raised regardless of the demand of the subscriber, so
+     * they are buffered without bound until requested. This ensures that
+     * neither the delivery scheduler nor a backpressure-aware subscriber
+     * fails the stream with a {@code MissingBackpressureException} when the
+     * initial population or a burst of changes exceeds its buffer.
+     *
+     * @param <E>       the type of the event values
+     * @param fnCreate  the function that creates a ContinuousQueryCache with
+     *                  the specified listener
+     *
+     * @return an {@link Observable} stream of map events
+     */
+    protected <E> Observable<MapEvent<K, E>> continuousQueryEvents(
+            Function<MapListener<K, E>, ContinuousQueryCache<K, ?, E>> fnCreate)
+        {
+        return deliver(Observable.<MapEvent<K, E>>create(s ->
+                {
+                ContinuousQueryCache<K, ?, E> cqc = fnCreate.apply(new MultiplexingMapListener<K, E>()
+                        {
+                        @Override
+                        protected void onMapEvent(MapEvent<K, E> evt)
+                            {
+                            if (!s.isUnsubscribed())
                                 {
-                                if (!s.isUnsubscribed())
-                                    {
-                                    if (t == null)
-                                        {
-                                        s.onCompleted();
-                                        }
-                                    else
-                                        {
-                                        s.onError(t);
-                                        }
-                                    }
-
-                                return null;
-                                }));
+                                s.onNext(evt);
+                                }
+                            }
+                        });
+
+                s.add(Subscriptions.create(() -> cqc.release()));
+                }).onBackpressureBuffer(), true);
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Apply the delivery scheduler and callback statistics configured in
+     * the options to the specified observable.
+     *
+     * @param <T>         the type of the emitted items
+     * @param observable  the observable emitting results of a cache operation
+     * @param fBounded    {@code true} if the observable honors backpressure or
+     *                    emits at most a single item; {@code false} if the
+     *                    results need to be buffered before being handed over
+     *                    to the delivery scheduler
+     *
+     * @return the observable that delivers results as configured
+     */
+    protected <T> Observable<T> deliver(Observable<T> observable, boolean fBounded)
+        {
+        Scheduler scheduler = m_options.getScheduler();
+        if (scheduler != null)
+            {
+            if (!fBounded)
+                {
+                int cBuffer = m_options.getBufferSize();
+
+                observable = cBuffer == 0
+                             ? observable.onBackpressureBuffer()
+                             : observable.onBackpressureBuffer(cBuffer);
+                }
+
+            observable = observable.observeOn(scheduler);
+            }
+
+        CallbackStatistics stats = m_options.getCallbackStatistics();
+
+        return stats == null ? observable : observable.lift(stats.<T>operator());
+        }
+
+    /**
+     * Emit the result of the specified future to the subscriber and complete
+     * it, or terminate the subscriber with an error if the future completes
+     * exceptionally.
+     * <p>
+     * If the subscriber unsubscribes before the future completes, the future
+     * will be cancelled.
+     *
+     * @param <R>        the type of the result
+     * @param subscriber the subscriber to emit the result to
+     * @param future     the future representing an asynchronous cache operation
+     */
+    protected <R> void emitResult(Subscriber<? super R> subscriber, CompletableFuture<? extends R> future)
+        {
+        cancelOnUnsubscribe(subscriber, future);
+
+        future.handle((r, t) ->
+                {
+                if (!subscriber.isUnsubscribed())
+                    {
+                    if (t == null)
+                        {
+                        subscriber.onNext(r);
+                        subscriber.onCompleted();
+                        }
+                    else
+                        {
+                        subscriber.onError(t);
+                        }
+                    }
+
+                return null;
+                });
+        }
+
+    /**
+     * Complete the subscriber when the specified future completes, or
+     * terminate it with an error if the future completes exceptionally.
+     * <p>
+     * If the subscriber unsubscribes before the future completes, the future
+     * will be cancelled.
+     *
+     * @param subscriber the subscriber to complete
+     * @param future     the future representing an asynchronous cache operation
+     */
+    protected void emitCompletion(Subscriber<?> subscriber, CompletableFuture<?> future)
+        {
+        cancelOnUnsubscribe(subscriber, future);
+
+        future.handle((r, t) ->
+                {
+                if (!subscriber.isUnsubscribed())
+                    {
+                    if (t == null)
+                        {
+                        subscriber.onCompleted();
+                        }
+                    else
+                        {
+                        subscriber.onError(t);
+                        }
+                    }
+
+                return null;
+                });
+        }
+
+    /**
+     * Cancel the specified future when the subscriber unsubscribes, unless
+     * the future has already completed by then.
+     *
+     * @param subscriber the subscriber
+     * @param future     the future to cancel
+     */
+    protected static void cancelOnUnsubscribe(Subscriber<?> subscriber, CompletableFuture<?> future)
+        {
+        subscriber.add(Subscriptions.create(() ->
+                {
+                if (!future.isDone())
+                    {
+                    future.cancel(true);
+                    }
+                }));
+        }
+
+    /**
+     * Return a future that completes with the entries of the map returned by
+     * the specified future, and that cancels the specified future when it is
+     * cancelled itself.
+     * <p>
+     * Cancelling a stage derived using {@code thenApply} does not cancel the
+     * stage it was derived from, so without this the cache request would keep
+     * running after the subscriber unsubscribes.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <R>     the type of the per-entry results
+     * @param future  the future returned by the cache request
+     *
+     * @return a future that completes with the entries of the result map
+     */
+    protected static <K, R> CompletableFuture<Set<Map.Entry<K, R>>> entries(CompletableFuture<Map<K, R>> future)
+        {
+        CompletableFuture<Set<Map.Entry<K, R>>> futureEntries = future.thenApply(map -> map.entrySet());
+
+        futureEntries.whenComplete((setEntries, t) ->
+                {
+                if (futureEntries.isCancelled())
+                    {
+                    future.cancel(true);
+                    }
+                });
+
+        return futureEntries;
+        }
+
+    // ---- streaming support -----------------------------------------------
+
+    /**
+     * Invoke the passed EntryProcessor against the entries specified by the
+     * passed keys, sending at most {@link RxNamedCacheOptions#getBatchSize()}
+     * keys at a time, and only when the subscriber requests more results.
+     *
+     * @param <R>       the type of value returned by the EntryProcessor
+     * @param collKeys  the keys to process
+     * @param processor the EntryProcessor to use to process the specified keys
+     *
+     * @return an {@link Observable} that will emit the result of the invocation
+     *         for each entry
+     */
+    protected <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    streamInvokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return pageByKeys(collKeys, colPage -> m_cache.invokeAll(colPage, processor));
+        }
+
+    /**
+     * Invoke the passed EntryProcessor against the entries selected by the
+     * given Filter one page of partitions at a time, and only when the
+     * subscriber requests more results (or, if read-ahead is enabled, while
+     * the subscriber is processing the previous pages).
+     *
+     * @param <R>       the type of value returned by the EntryProcessor
+     * @param filter    a Filter that results in the set of keys to be
+     *                  processed
+     * @param processor the EntryProcessor to use to process the specified keys
+     *
+     * @return an {@link Observable} that will emit the result of the invocation
+     *         for each entry
+     */
+    protected <R> Observable<? extends Map.Entry<? extends K, ? extends R>>
+    streamInvokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return pageByPartitions(filter, filterPage -> m_cache.invokeAll(filterPage, processor));
+        }
+
+    /**
+     * Execute a bulk operation against the specified keys, sending at most
+     * {@link RxNamedCacheOptions#getBatchSize()} keys at a time, and only
+     * when the subscriber requests more results.
+     *
+     * @param <R>       the type of the per-entry results
+     * @param collKeys  the keys to execute the operation against
+     * @param fnFetch   the function that executes the operation against a
+     *                  single page of keys
+     *
+     * @return an {@link Observable} that will emit the result for each entry
+     */
+    protected <R> Observable<Map.Entry<? extends K, ? extends R>>
+    pageByKeys(Collection<? extends K> collKeys, Function<Collection<? extends K>, CompletableFuture<Map<K, R>>> fnFetch)
+        {
+        List<? extends K> listKeys   = new ArrayList<>(collKeys);
+        int               cBatch     = m_options.getBatchSize();
+        int               cKeys      = listKeys.size();
+        int               cPages     = (cKeys + cBatch - 1) / cBatch;
+        int               cReadAhead = m_options.getReadAhead();
+
+        return Observable.create(new PagedOnSubscribe<Map.Entry<? extends K, ? extends R>>(cPages, cReadAhead, nPage ->
+                {
+                int nFrom = nPage * cBatch;
+                int nTo   = Math.min(nFrom + cBatch, cKeys);
+
+                return entries(fnFetch.apply(listKeys.subList(nFrom, nTo)));
+                }));
+        }
+
+    /**
+     * Execute a bulk operation against the entries selected by the given
+     * Filter one page of partitions at a time, and only when the subscriber
+     * requests more results (or, if read-ahead is enabled, while the
+     * subscriber is processing the previous pages).
+     * <p>
+     * If the cache is not partitioned, the whole result set is fetched using
+     * a single request.
+     *
+     * @param <R>       the type of the per-entry results
+     * @param filter    the Filter that selects the entries to execute the
+     *                  operation against
+     * @param fnFetch   the function that executes the operation against a
+     *                  single page, represented by a Filter
+     *
+     * @return an {@link Observable} that will emit the result for each entry
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> Observable<Map.Entry<? extends K, ? extends R>>
+    pageByPartitions(Filter filter, Function<Filter, CompletableFuture<Map<K, R>>> fnFetch)
+        {
+        int cPartitions = getPartitionCount();
+
+        if (cPartitions == 0)
+            {
+            return Observable.create(new PagedOnSubscribe<Map.Entry<? extends K, ? extends R>>(1, nPage ->
+                    entries(fnFetch.apply(filter))));
+            }
+
+        int cPageSize  = Math.min(m_options.getPageSize(), cPartitions);
+        int cPages     = (cPartitions + cPageSize - 1) / cPageSize;
+        int cReadAhead = m_options.getReadAhead();
+
+        return Observable.create(new PagedOnSubscribe<Map.Entry<? extends K, ? extends R>>(cPages, cReadAhead, nPage ->
+                entries(fnFetch.apply(new PartitionedFilter(filter, getPartitions(nPage, cPageSize, cPartitions))))));
+        }
+
+    /**
+     * Return the set of partitions that belong to the specified page.
+     *
+     * @param nPage        the page index
+     * @param cPageSize    the number of partitions per page
+     * @param cPartitions  the partition count
+     *
+     * @return the set of partitions that belong to the specified page
+     */
+    protected static PartitionSet getPartitions(int nPage, int cPageSize, int cPartitions)
+        {
+        PartitionSet parts = new PartitionSet(cPartitions);
+        int          nFrom = nPage * cPageSize;
+        int          nTo   = Math.min(nFrom + cPageSize, cPartitions);
+
+        for (int nPart = nFrom; nPart < nTo; nPart++)
+            {
+            parts.add(nPart);
+            }
+
+        return parts;
+        }
+
+    /**
+     * Return the partition count of the underlying cache service, or zero
+     * if the cache is not partitioned.
+     *
+     * @return the partition count of the underlying cache service
+     */
+    protected int getPartitionCount()
+        {
+        CacheService service = m_cache.getNamedCache().getCacheService();
+
+        return service instanceof PartitionedService
+               ? ((PartitionedService) service).getPartitionCount()
+               : 0;
         }
 
     // ---- data members ----------------------------------------------------
@@ -205,4 +807,15 @@ public class RxNamedCacheImpl<K, V>
      * The wrapped AsyncNamedCache instance to delegate invocations to.
      */
     protected final AsyncNamedCache<K, V> m_cache;
+
+    /**
+     * The options that control how operations are executed.
+     */
+    protected final RxNamedCacheOptions m_options;
+
+    /**
+     * The front map of the wrapped near cache, or {@code null} if the cache
+     * is not a near cache or front map reads are disabled.
+     */
+    protected final Map<K, V> m_mapFront;
     }
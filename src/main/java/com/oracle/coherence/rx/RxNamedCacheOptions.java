@@ -0,0 +1,465 @@
+/*
+ * File: RxNamedCacheOptions.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Scheduler;
+
+/**
+ * Immutable set of options that control how an {@link RxNamedCache} executes
+ * operations against the underlying cache.
+ * <p>
+ * Each {@code with*} method returns a new instance, leaving the original
+ * unchanged, which allows a single options instance to be safely shared
+ * across multiple caches:
+ * <pre>
+ *     RxNamedCache&lt;K, V&gt; rxCache = RxNamedCache.rx(cache,
+ *             RxNamedCacheOptions.DEFAULT.withStreaming(1000));
+ * </pre>
+ *
+ * @author agent  2026.10.16
+ */
+public final class RxNamedCacheOptions
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct RxNamedCacheOptions instance with default settings.
+     */
+    private RxNamedCacheOptions()
+        {
+        }
+
+    /**
+     * Construct a copy of the specified RxNamedCacheOptions.
+     *
+     * @param that  the options to copy
+     */
+    private RxNamedCacheOptions(RxNamedCacheOptions that)
+        {
+        m_fStreaming = that.m_fStreaming;
+        m_cBatchSize = that.m_cBatchSize;
+        m_cPageSize  = that.m_cPageSize;
+        m_cReadAhead = that.m_cReadAhead;
+        m_scheduler  = that.m_scheduler;
+        m_cBuffer    = that.m_cBuffer;
+        m_stats      = that.m_stats;
+        m_fLockFree  = that.m_fLockFree;
+        m_fFrontMap  = that.m_fFrontMap;
+        }
+
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return {@code true} if bulk operations should only fetch as much data
+     * as the subscribers have requested.
+     *
+     * @return {@code true} if streaming mode is enabled
+     */
+    public boolean isStreaming()
+        {
+        return m_fStreaming;
+        }
+
+    /**
+     * Return the maximum number of keys that will be sent to the cache
+     * in a single request when processing a key-based bulk operation in
+     * streaming mode.
+     *
+     * @return the maximum number of keys per request
+     */
+    public int getBatchSize()
+        {
+        return m_cBatchSize;
+        }
+
+    /**
+     * Return the number of partitions that will be queried in a single
+     * request when processing a filter-based bulk operation in streaming mode.
+     *
+     * @return the number of partitions per page
+     */
+    public int getPageSize()
+        {
+        return m_cPageSize;
+        }
+
+    /**
+     * Return the number of pages that will be fetched ahead of time, while
+     * the subscriber is still processing the current page.
+     *
+     * @return the number of pages to read ahead
+     */
+    public int getReadAhead()
+        {
+        return m_cReadAhead;
+        }
+
+    /**
+     * Return the scheduler that results should be delivered on, or
+     * {@code null} if the results should be delivered on the thread that
+     * completed the underlying cache operation.
+     *
+     * @return the scheduler that results should be delivered on
+     */
+    public Scheduler getScheduler()
+        {
+        return m_scheduler;
+        }
+
+    /**
+     * Return the maximum number of results that will be buffered between
+     * the cache and the delivery scheduler for bulk operations that are not
+     * executed in streaming mode.
+     *
+     * @return the maximum number of buffered results, or zero if the buffer
+     *         is unbounded
+     */
+    public int getBufferSize()
+        {
+        return m_cBuffer;
+        }
+
+    /**
+     * Return the statistics object that the time spent in subscriber
+     * callbacks should be recorded into, if any.
+     *
+     * @return the callback statistics, or {@code null}
+     */
+    public CallbackStatistics getCallbackStatistics()
+        {
+        return m_stats;
+        }
+
+    /**
+     * Return {@code true} if read-only bulk operations should avoid locking
+     * the entries they read.
+     *
+     * @return {@code true} if lock-free reads are enabled
+     */
+    public boolean isLockFreeReads()
+        {
+        return m_fLockFree;
+        }
+
+    /**
+     * Return {@code true} if {@code get} should check the front map of a
+     * near cache before sending a request to the cluster.
+     *
+     * @return {@code true} if front map reads are enabled
+     */
+    public boolean isFrontMapReads()
+        {
+        return m_fFrontMap;
+        }
+
+    // ---- fluent API ------------------------------------------------------
+
+    /**
+     * Return a copy of these options with streaming mode enabled.
+     * <p>
+     * In streaming mode, bulk operations such as {@code entrySet},
+     * {@code values}, {@code keySet} and {@code invokeAll} honor the demand
+     * signalled by the subscriber via {@code request(n)}, and only send the
+     * next request to the cache once all previously fetched results have
+     * been requested downstream (unless {@link #withReadAhead read-ahead} is
+     * enabled). Key-based operations are split into batches of at most
+     * {@code cBatchSize} keys, while filter-based operations are executed
+     * one page of partitions at a time (see {@link #withPageSize}).
+     *
+     * @param cBatchSize  the maximum number of keys to send to the cache in
+     *                    a single request
+     *
+     * @return a copy of these options with streaming mode enabled
+     */
+    public RxNamedCacheOptions withStreaming(int cBatchSize)
+        {
+        if (cBatchSize <= 0)
+            {
+            throw new IllegalArgumentException("batch size must be positive");
+            }
+
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_fStreaming = true;
+        options.m_cBatchSize = cBatchSize;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with streaming mode disabled.
+     *
+     * @return a copy of these options with streaming mode disabled
+     */
+    public RxNamedCacheOptions withoutStreaming()
+        {
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_fStreaming = false;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with the specified page size.
+     * <p>
+     * In streaming mode, filter-based operations such as
+     * {@code entrySet(Filter)} and {@code values(Filter)} walk the cache one
+     * {@link com.tangosol.net.partition.PartitionSet} at a time, and the page
+     * size determines how many partitions each of those sets contains. Larger
+     * pages reduce the number of requests, while smaller pages reduce the
+     * amount of data that is produced by the storage members and buffered
+     * on the client at any given time.
+     *
+     * @param cPartitions  the number of partitions per page
+     *
+     * @return a copy of these options with the specified page size
+     */
+    public RxNamedCacheOptions withPageSize(int cPartitions)
+        {
+        if (cPartitions <= 0)
+            {
+            throw new IllegalArgumentException("page size must be positive");
+            }
+
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_cPageSize = cPartitions;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with the specified number of pages to
+     * read ahead.
+     * <p>
+     * In streaming mode, the next pages are requested while the subscriber is
+     * still processing the current one, which hides the latency of the page
+     * requests at the cost of buffering up to {@code cPages} additional pages
+     * on the client.
+     *
+     * @param cPages  the number of pages to read ahead; zero disables read-ahead
+     *
+     * @return a copy of these options with the specified read-ahead
+     */
+    public RxNamedCacheOptions withReadAhead(int cPages)
+        {
+        if (cPages < 0)
+            {
+            throw new IllegalArgumentException("read-ahead must not be negative");
+            }
+
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_cReadAhead = cPages;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options that delivers results on the specified
+     * scheduler.
+     * <p>
+     * By default, results are delivered to subscribers on the Coherence
+     * service or I/O thread that completed the underlying cache operation,
+     * which means that slow subscribers can stall that thread and increase
+     * the latency of all other operations. Specifying a scheduler moves the
+     * delivery to a different thread, with a bounded queue between the two.
+     * <p>
+     * In streaming mode backpressure propagates through the queue all the
+     * way to the page requests, so the queue never overflows. Otherwise, the
+     * whole result of a bulk operation is already on its way to the client
+     * and cannot be slowed down, so it is buffered without a limit until the
+     * subscriber consumes it. Use {@link #withBufferSize(int)} to fail with a
+     * {@link rx.exceptions.MissingBackpressureException} instead, once the
+     * subscriber falls a given number of results behind.
+     *
+     * @param scheduler  the scheduler to deliver results on, or {@code null}
+     *                   to deliver them on the cache service thread
+     *
+     * @return a copy of these options that delivers results on the specified
+     *         scheduler
+     */
+    public RxNamedCacheOptions withScheduler(Scheduler scheduler)
+        {
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_scheduler = scheduler;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with the specified buffer size.
+     *
+     * @param cBuffer  the maximum number of results to buffer between the
+     *                 cache and the delivery scheduler for bulk operations
+     *                 that are not executed in streaming mode, or zero to
+     *                 buffer all of them
+     *
+     * @return a copy of these options with the specified buffer size
+     *
+     * @see #withScheduler(Scheduler)
+     */
+    public RxNamedCacheOptions withBufferSize(int cBuffer)
+        {
+        if (cBuffer < 0)
+            {
+            throw new IllegalArgumentException("buffer size must not be negative");
+            }
+
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_cBuffer = cBuffer;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options that records the time spent in
+     * subscriber callbacks into the specified statistics object.
+     *
+     * @param stats  the statistics to record callback times into, or
+     *               {@code null} to disable recording
+     *
+     * @return a copy of these options that records callback times
+     */
+    public RxNamedCacheOptions withCallbackStatistics(CallbackStatistics stats)
+        {
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_stats = stats;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with lock-free reads enabled or disabled.
+     * <p>
+     * By default, {@code keySet}, {@code entrySet}, {@code values} and
+     * {@code getAll} are implemented using entry processors, which lock each
+     * matched entry for the duration of the read and contend with concurrent
+     * writers. When lock-free reads are enabled, these operations use a
+     * {@link com.tangosol.util.aggregator.ReducerAggregator} instead, which
+     * reads entries without locking them. This works in both regular and
+     * streaming mode.
+     * <p>
+     * Note that, unlike entry processors, aggregators do not cause missing
+     * entries to be loaded via a {@code CacheLoader}, so lock-free
+     * {@code getAll} will only return the entries that are already present
+     * in the cache.
+     *
+     * @param fLockFree  {@code true} to enable lock-free reads
+     *
+     * @return a copy of these options with lock-free reads enabled or disabled
+     */
+    public RxNamedCacheOptions withLockFreeReads(boolean fLockFree)
+        {
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_fLockFree = fLockFree;
+
+        return options;
+        }
+
+    /**
+     * Return a copy of these options with front map reads enabled or disabled.
+     * <p>
+     * When enabled and the wrapped cache is a
+     * {@link com.tangosol.net.cache.NearCache}, {@code get} checks its front
+     * map first, and emits the value immediately on the subscribing thread if
+     * it is present, without a network round trip or a hand-off to the
+     * delivery scheduler. Only if the key is not in the front map is the
+     * request sent to the cluster.
+     * <p>
+     * This option is disabled by default, because a hit is delivered on the
+     * subscribing thread rather than on the configured scheduler, and may
+     * return a value that the front map has not been invalidated for yet.
+     *
+     * @param fFrontMap  {@code true} to enable front map reads
+     *
+     * @return a copy of these options with front map reads enabled or disabled
+     */
+    public RxNamedCacheOptions withFrontMapReads(boolean fFrontMap)
+        {
+        RxNamedCacheOptions options = new RxNamedCacheOptions(this);
+        options.m_fFrontMap = fFrontMap;
+
+        return options;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The default batch size used in streaming mode.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The default number of partitions per page used in streaming mode.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1;
+
+    /**
+     * The default options, which execute each operation using a single
+     * request to the cache and emit results as soon as they are received.
+     */
+    public static final RxNamedCacheOptions DEFAULT = new RxNamedCacheOptions();
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * Flag specifying whether streaming mode is enabled.
+     */
+    private boolean m_fStreaming;
+
+    /**
+     * The maximum number of keys per request in streaming mode.
+     */
+    private int m_cBatchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * The number of partitions per page in streaming mode.
+     */
+    private int m_cPageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * The number of pages to read ahead in streaming mode.
+     */
+    private int m_cReadAhead;
+
+    /**
+     * The scheduler to deliver results on.
+     */
+    private Scheduler m_scheduler;
+
+    /**
+     * The maximum number of results buffered for the delivery scheduler, or
+     * zero if the buffer is unbounded.
+     */
+    private int m_cBuffer;
+
+    /**
+     * The statistics to record callback times into.
+     */
+    private CallbackStatistics m_stats;
+
+    /**
+     * Flag specifying whether lock-free reads are enabled.
+     */
+    private boolean m_fLockFree;
+
+    /**
+     * Flag specifying whether front map reads are enabled.
+     */
+    private boolean m_fFrontMap;
+    }
@@ -0,0 +1,538 @@
+/*
+ * File: RxSingleNamedCache.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.internal.util.processor.CacheProcessors;
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.CacheMap;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import com.tangosol.util.aggregator.Count;
+
+import com.tangosol.util.filter.AlwaysFilter;
+
+import com.tangosol.util.function.Remote;
+
+import rx.Completable;
+import rx.Single;
+
+import java.util.Collection;
+import java.util.Map;
+
+
+/**
+ * Reactive Extensions (RxJava) {@link NamedCache} API for operations that
+ * return a single result or no result at all.
+ * <p>
+ * This is a parallel API surface to {@link RxNamedCache}, which returns
+ * {@link Single} instead of an {@code Observable} that emits a single value,
+ * and {@link Completable} instead of an {@code Observable<Void>}. Bulk
+ * operations that do not return a value, such as {@link #removeAll} and
+ * {@link #replaceAll}, complete as soon as the whole operation completes,
+ * without emitting per-entry results to the subscriber, and
+ * {@link #removeAll} does not even send per-entry results over the network.
+ * <p>
+ * Operations that return multiple results, such as {@code entrySet}, or
+ * {@code invokeAll} with per-entry results, are only available via {@link
+ * RxNamedCache}.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public interface RxSingleNamedCache<K, V>
+    {
+    // ---- factory methods -------------------------------------------------
+
+    /**
+     * Factory method for RxSingleNamedCache instance.
+     *
+     * @param <K>   the type of the entry keys
+     * @param <V>   the type of the entry values
+     * @param cache the NamedCache to create the wrapper for
+     *
+     * @return  the RxSingleNamedCache instance for the given NamedCache
+     */
+    static <K, V> RxSingleNamedCache<K, V> rxSingle(NamedCache<K, V> cache)
+        {
+        return new RxSingleNamedCacheImpl<>(cache.async());
+        }
+
+    /**
+     * Factory method for RxSingleNamedCache instance.
+     *
+     * @param <K>   the type of the entry keys
+     * @param <V>   the type of the entry values
+     * @param cache the AsyncNamedCache to create the wrapper for
+     *
+     * @return  the RxSingleNamedCache instance for the given AsyncNamedCache
+     */
+    static <K, V> RxSingleNamedCache<K, V> rxSingle(AsyncNamedCache<K, V> cache)
+        {
+        return new RxSingleNamedCacheImpl<>(cache);
+        }
+
+    /**
+     * Factory method for RxSingleNamedCache instance.
+     * <p>
+     * Only the delivery scheduler and callback statistics are relevant for
+     * the operations of this API, and callback statistics are only recorded
+     * for operations that return a {@link Single}; the remaining options are
+     * ignored.
+     *
+     * @param <K>     the type of the entry keys
+     * @param <V>     the type of the entry values
+     * @param cache   the AsyncNamedCache to create the wrapper for
+     * @param options the options that control how operations are executed
+     *
+     * @return  the RxSingleNamedCache instance for the given AsyncNamedCache
+     */
+    static <K, V> RxSingleNamedCache<K, V> rxSingle(AsyncNamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        return new RxSingleNamedCacheImpl<>(cache, options);
+        }
+
+    // ---- CacheMap methods ------------------------------------------------
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null}
+     * if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     *
+     * @return  a {@link Single} for the value to which the specified key is
+     *          mapped
+     */
+    default Single<V> get(K key)
+        {
+        return invoke(key, CacheProcessors.get());
+        }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable put(K key, V value)
+        {
+        return put(key, value, CacheMap.EXPIRY_DEFAULT);
+        }
+
+    /**
+     * Associates the specified value with the specified key in this cache,
+     * using the specified expiry.
+     *
+     * @param key     key with which the specified value is to be associated
+     * @param value   value to be associated with the specified key
+     * @param cMillis the number of milliseconds until the cache entry will
+     *                expire; pass {@link CacheMap#EXPIRY_DEFAULT} to use the
+     *                cache's default time-to-live setting, or {@link
+     *                CacheMap#EXPIRY_NEVER} to indicate that the cache entry
+     *                should never expire
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable put(K key, V value, long cMillis)
+        {
+        return Completable.fromSingle(invoke(key, CacheProcessors.put(value, cMillis)));
+        }
+
+    /**
+     * Copies all of the mappings from the specified map to this map.
+     *
+     * @param map mappings to be added to this map
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    Completable putAll(Map<? extends K, ? extends V> map);
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     *
+     * @return a {@link Single} for the previous value associated with the
+     *         <tt>key</tt>
+     */
+    default Single<V> remove(K key)
+        {
+        return invoke(key, CacheProcessors.remove());
+        }
+
+    /**
+     * Removes all of the mappings from the specified keys from this map, if
+     * they are present in the cache.
+     *
+     * @param colKeys a collection of keys that may be in the named cache
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    Completable removeAll(Collection<? extends K> colKeys);
+
+    /**
+     * Removes all of the mappings that satisfy the specified filter from this
+     * map.
+     *
+     * @param filter a Filter that determines the set of entries to remove
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    Completable removeAll(Filter filter);
+
+    // ---- InvocableMap methods --------------------------------------------
+
+    /**
+     * Invoke the passed EntryProcessor against the Entry specified by the
+     * passed key asynchronously.
+     *
+     * @param <R>       the type of value returned by the EntryProcessor
+     * @param key       the key to process; it is not required to exist within
+     *                  the Map
+     * @param processor the EntryProcessor to use to process the specified key
+     *
+     * @return a {@link Single} for the result of the invocation
+     */
+    <R> Single<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor);
+
+    /**
+     * Invoke the passed EntryProcessor against the entries specified by the
+     * passed keys asynchronously, ignoring the results.
+     *
+     * @param collKeys  the keys to process; these keys are not required to
+     *                  exist within the Map
+     * @param processor the EntryProcessor to use to process the specified keys
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    Completable invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, ?> processor);
+
+    /**
+     * Invoke the passed EntryProcessor against the set of entries that are
+     * selected by the given Filter asynchronously, ignoring the results.
+     *
+     * @param filter    a Filter that results in the set of keys to be
+     *                  processed
+     * @param processor the EntryProcessor to use to process the specified keys
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    Completable invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, ?> processor);
+
+    /**
+     * Perform an aggregating operation asynchronously against all the entries.
+     *
+     * @param <R>        the type of value returned by the EntryAggregator
+     * @param aggregator the EntryAggregator that is used to aggregate across
+     *                   the specified entries of this Map
+     *
+     * @return a {@link Single} for the result of the aggregation
+     */
+    default <R> Single<R> aggregate(InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return aggregate(AlwaysFilter.INSTANCE, aggregator);
+        }
+
+    /**
+     * Perform an aggregating operation asynchronously against the entries
+     * specified by the passed keys.
+     *
+     * @param <R>        the type of value returned by the EntryAggregator
+     * @param collKeys   the Collection of keys that specify the entries within
+     *                   this Map to aggregate across
+     * @param aggregator the EntryAggregator that is used to aggregate across
+     *                   the specified entries of this Map
+     *
+     * @return a {@link Single} for the result of the aggregation
+     */
+    <R> Single<R> aggregate(Collection<? extends K> collKeys,
+                            InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator);
+
+    /**
+     * Perform an aggregating operation asynchronously against the set of
+     * entries that are selected by the given Filter.
+     *
+     * @param <R>        the type of value returned by the EntryAggregator
+     * @param filter     the Filter that is used to select entries within this
+     *                   Map to aggregate across
+     * @param aggregator the EntryAggregator that is used to aggregate across
+     *                   the selected entries of this Map
+     *
+     * @return a {@link Single} for the result of the aggregation
+     */
+    <R> Single<R> aggregate(Filter filter,
+                            InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator);
+
+    // ---- Map methods -----------------------------------------------------
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return a {@link Single} for the number of entries in this cache
+     */
+    default Single<Integer> size()
+        {
+        return aggregate(new Count<>());
+        }
+
+    /**
+     * Returns <tt>true</tt> if this cache contains no entries.
+     *
+     * @return a {@link Single} that will emit <tt>true</tt> if this cache
+     *         contains no entries
+     */
+    default Single<Boolean> isEmpty()
+        {
+        return size().map(size -> size == 0);
+        }
+
+    /**
+     * Removes all of the mappings from this cache.
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable clear()
+        {
+        return removeAll(AlwaysFilter.INSTANCE);
+        }
+
+    /**
+     * Returns <tt>true</tt> if this cache contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this cache is to be tested
+     *
+     * @return a {@link Single} that will emit <tt>true</tt> if this cache
+     *         contains a mapping for the specified key
+     */
+    default Single<Boolean> containsKey(K key)
+        {
+        return invoke(key, InvocableMap.Entry::isPresent);
+        }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code
+     * valueDefault} if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param valueDefault the default mapping of the key
+     *
+     * @return a {@link Single} for the value to which the specified key is
+     *         mapped, or {@code valueDefault} if this map contains no mapping
+     *         for the key
+     */
+    default Single<V> getOrDefault(K key, V valueDefault)
+        {
+        return invoke(key, CacheProcessors.getOrDefault()).map(opt -> opt.orElse(valueDefault));
+        }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped
+     * to {@code null}) associates it with the given value and returns {@code
+     * null}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     *
+     * @return a {@link Single} for the previous value associated with the
+     *         specified key, or {@code null} if there was no mapping for the key
+     */
+    default Single<V> putIfAbsent(K key, V value)
+        {
+        return invoke(key, CacheProcessors.putIfAbsent(value));
+        }
+
+    /**
+     * Removes the entry for the specified key only if it is currently mapped to
+     * the specified value.
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value expected to be associated with the specified key
+     *
+     * @return a {@link Single} that will emit {@code true} if the value was
+     *         removed
+     */
+    default Single<Boolean> remove(K key, V value)
+        {
+        return invoke(key, CacheProcessors.remove(value));
+        }
+
+    /**
+     * Replaces the entry for the specified key only if it is currently mapped
+     * to some value.
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value to be associated with the specified key
+     *
+     * @return a {@link Single} for the previous value associated with the
+     *         specified key, or {@code null} if there was no mapping for the key
+     */
+    default Single<V> replace(K key, V value)
+        {
+        return invoke(key, CacheProcessors.replace(value));
+        }
+
+    /**
+     * Replaces the entry for the specified key only if currently mapped to the
+     * specified value.
+     *
+     * @param key      key with which the specified value is associated
+     * @param oldValue value expected to be associated with the specified key
+     * @param newValue value to be associated with the specified key
+     *
+     * @return a {@link Single} that will emit {@code true} if the value was
+     *         replaced
+     */
+    default Single<Boolean> replace(K key, V oldValue, V newValue)
+        {
+        return invoke(key, CacheProcessors.replace(oldValue, newValue));
+        }
+
+    /**
+     * Compute the value using the given mapping function and enter it into this
+     * map (unless {@code null}), if the specified key is not already associated
+     * with a value (or is mapped to {@code null}).
+     *
+     * @param key             key with which the specified value is to be
+     *                        associated
+     * @param mappingFunction the function to compute a value
+     *
+     * @return a {@link Single} for the current (existing or computed) value
+     *         associated with the specified key, or null if the computed value
+     *         is null
+     */
+    default Single<V> computeIfAbsent(K key, Remote.Function<? super K, ? extends V> mappingFunction)
+        {
+        return invoke(key, CacheProcessors.computeIfAbsent(mappingFunction));
+        }
+
+    /**
+     * Compute a new mapping given the key and its current mapped value, if the
+     * value for the specified key is present and non-null.
+     *
+     * @param key               the key with which the specified value is to be
+     *                          associated
+     * @param remappingFunction the function to compute a value
+     *
+     * @return a {@link Single} for the new value associated with the specified
+     *         key, or null if none
+     */
+    default Single<V> computeIfPresent(K key, Remote.BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+        {
+        return invoke(key, CacheProcessors.computeIfPresent(remappingFunction));
+        }
+
+    /**
+     * Compute a new mapping for the specified key and its current value.
+     *
+     * @param key               the key with which the computed value is to be
+     *                          associated
+     * @param remappingFunction the function to compute a value
+     *
+     * @return a {@link Single} for the new value associated with the specified
+     *         key, or null if none
+     */
+    default Single<V> compute(K key, Remote.BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+        {
+        return invoke(key, CacheProcessors.compute(remappingFunction));
+        }
+
+    /**
+     * If the specified key is not already associated with a value or is
+     * associated with null, associates it with the given non-null value.
+     * Otherwise, replaces the associated value with the results of the given
+     * remapping function, or removes if the result is {@code null}.
+     *
+     * @param key               key with which the resulting value is to be
+     *                          associated
+     * @param value             the non-null value to be merged with the
+     *                          existing value associated with the key
+     * @param remappingFunction the function to recompute a value if present
+     *
+     * @return a {@link Single} for the new value associated with the specified
+     *         key, or null if no value is associated with the key
+     */
+    default Single<V> merge(K key, V value, Remote.BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+        {
+        return invoke(key, CacheProcessors.merge(value, remappingFunction));
+        }
+
+    /**
+     * Replace each entry's value with the result of invoking the given function
+     * on that entry.
+     *
+     * @param function the function to apply to each entry
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable replaceAll(Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return replaceAll(AlwaysFilter.INSTANCE, function);
+        }
+
+    /**
+     * Replace each entry's value with the result of invoking the given function
+     * on that entry, for all entries for the specified key set.
+     *
+     * @param collKeys the keys to process; these keys are not required to exist
+     *                 within the Map
+     * @param function the function to apply to each entry
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable replaceAll(Collection<? extends K> collKeys,
+                                   Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return invokeAll(collKeys, BlindProcessors.replace(function));
+        }
+
+    /**
+     * Replace each entry's value with the result of invoking the given function
+     * on that entry, for all entries selected by the specified filter.
+     *
+     * @param filter   the filter that should be used to select entries
+     * @param function the function to apply to each entry
+     *
+     * @return a {@link Completable} that will complete when the operation
+     *         completes
+     */
+    default Completable replaceAll(Filter filter,
+                                   Remote.BiFunction<? super K, ? super V, ? extends V> function)
+        {
+        return invokeAll(filter, BlindProcessors.replace(function));
+        }
+    }
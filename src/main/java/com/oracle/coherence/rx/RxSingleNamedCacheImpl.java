@@ -0,0 +1,267 @@
+/*
+ * File: RxSingleNamedCacheImpl.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import rx.Completable;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Single;
+
+import rx.subscriptions.Subscriptions;
+
+import java.util.Collection;
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.function.Supplier;
+
+
+/**
+ * Reactive Extensions (RxJava) {@link NamedCache} API implementation for
+ * operations that return a single result or no result at all.
+ *
+ * @author agent  2026.10.16
+ */
+public class RxSingleNamedCacheImpl<K, V>
+        implements RxSingleNamedCache<K, V>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct RxSingleNamedCacheImpl instance.
+     *
+     * @param cache the wrapped AsyncNamedCache to delegate invocations to
+     */
+    protected RxSingleNamedCacheImpl(AsyncNamedCache<K, V> cache)
+        {
+        this(cache, RxNamedCacheOptions.DEFAULT);
+        }
+
+    /**
+     * Construct RxSingleNamedCacheImpl instance.
+     *
+     * @param cache    the wrapped AsyncNamedCache to delegate invocations to
+     * @param options  the options that control how operations are executed
+     */
+    protected RxSingleNamedCacheImpl(AsyncNamedCache<K, V> cache, RxNamedCacheOptions options)
+        {
+        m_cache   = cache;
+        m_options = options == null ? RxNamedCacheOptions.DEFAULT : options;
+        }
+
+    // ---- RxSingleNamedCache interface ------------------------------------
+
+    @Override
+    public <R> Single<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor)
+        {
+        return single(() -> m_cache.invoke(key, processor));
+        }
+
+    @Override
+    public Completable invokeAll(Collection<? extends K> collKeys, InvocableMap.EntryProcessor<K, V, ?> processor)
+        {
+        return completable(() -> m_cache.invokeAll(collKeys, processor));
+        }
+
+    @Override
+    public Completable invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, ?> processor)
+        {
+        return completable(() -> m_cache.invokeAll(filter, processor));
+        }
+
+    @Override
+    public <R> Single<R> aggregate(Collection<? extends K> collKeys,
+                                   InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return single(() -> m_cache.aggregate(collKeys, aggregator));
+        }
+
+    @Override
+    public <R> Single<R> aggregate(Filter filter,
+                                   InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        return single(() -> m_cache.aggregate(filter, aggregator));
+        }
+
+    @Override
+    public Completable putAll(Map<? extends K, ? extends V> map)
+        {
+        return completable(() -> m_cache.putAll(map));
+        }
+
+    @Override
+    public Completable removeAll(Collection<? extends K> colKeys)
+        {
+        return invokeAll(colKeys, BlindProcessors.remove());
+        }
+
+    @Override
+    public Completable removeAll(Filter filter)
+        {
+        return invokeAll(filter, BlindProcessors.remove());
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Return a {@link Single} that executes the asynchronous cache operation
+     * returned by the specified supplier upon subscription, and emits its
+     * result on the configured delivery scheduler, if any.
+     * <p>
+     * If the subscriber unsubscribes before the operation completes, the
+     * operation will be cancelled.
+     *
+     * @param <R>       the type of the result
+     * @param supplier  the supplier that starts the cache operation
+     *
+     * @return a {@link Single} for the result of the cache operation
+     */
+    protected <R> Single<R> single(Supplier<? extends CompletableFuture<? extends R>> supplier)
+        {
+        Single<R> single = Single.create(subscriber ->
+                {
+                CompletableFuture<? extends R> future = supplier.get();
+
+                subscriber.add(Subscriptions.create(() -> cancel(future)));
+                future.handle((r, t) ->
+                        {
+                        if (!subscriber.isUnsubscribed())
+                            {
+                            if (t == null)
+                                {
+                                subscriber.onSuccess(r);
+                                }
+                            else
+                                {
+                                subscriber.onError(t);
+                                }
+                            }
+
+                        return null;
+                        });
+                });
+
+        Scheduler scheduler = m_options.getScheduler();
+        if (scheduler != null)
+            {
+            single = single.observeOn(scheduler);
+            }
+
+        CallbackStatistics stats = m_options.getCallbackStatistics();
+
+        return stats == null ? single : single.lift(stats.<R>operator());
+        }
+
+    /**
+     * Return a {@link Completable} that executes the asynchronous cache
+     * operation returned by the specified supplier upon subscription, and
+     * completes on the configured delivery scheduler, if any, when the
+     * operation completes.
+     * <p>
+     * If the subscriber unsubscribes before the operation completes, the
+     * operation will be cancelled.
+     *
+     * @param supplier  the supplier that starts the cache operation
+     *
+     * @return a {@link Completable} for the completion of the cache operation
+     */
+    protected Completable completable(Supplier<? extends CompletableFuture<?>> supplier)
+        {
+        Completable completable = Completable.create(subscriber ->
+                {
+                CompletableFuture<?> future = supplier.get();
+
+                subscriber.onSubscribe(Subscriptions.create(() -> cancel(future)));
+                future.handle((r, t) ->
+                        {
+                        if (!future.isCancelled())
+                            {
+                            if (t == null)
+                                {
+                                subscriber.onCompleted();
+                                }
+                            else
+                                {
+                                subscriber.onError(t);
+                                }
+                            }
+
+                        return null;
+                        });
+                });
+
+        return Completable.fromObservable(deliver(completable.<Void>toObservable()));
+        }
+
+    /**
+     * Apply the configured delivery scheduler and callback statistics, if
+     * any, to the specified observable, the same way {@link RxNamedCacheImpl}
+     * does for the results of bounded operations.
+     *
+     * @param <T>         the type of the emitted items
+     * @param observable  the observable to deliver the results of
+     *
+     * @return the observable that delivers the results
+     */
+    protected <T> Observable<T> deliver(Observable<T> observable)
+        {
+        Scheduler scheduler = m_options.getScheduler();
+        if (scheduler != null)
+            {
+            observable = observable.observeOn(scheduler);
+            }
+
+        CallbackStatistics stats = m_options.getCallbackStatistics();
+
+        return stats == null ? observable : observable.lift(stats.<T>operator());
+        }
+
+    /**
+     * Cancel the specified future, unless it has already completed.
+     *
+     * @param future  the future to cancel
+     */
+    protected static void cancel(CompletableFuture<?> future)
+        {
+        if (!future.isDone())
+            {
+            future.cancel(true);
+            }
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The wrapped AsyncNamedCache instance to delegate invocations to.
+     */
+    protected final AsyncNamedCache<K, V> m_cache;
+
+    /**
+     * The options that control how operations are executed.
+     */
+    protected final RxNamedCacheOptions m_options;
+    }
@@ -0,0 +1,498 @@
+/*
+ * File: StreamingPutAll.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+
+import rx.observers.SerializedSubscriber;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.Function;
+
+
+/**
+ * An {@link Observable.Operator} that writes a stream of entries into a cache
+ * in batches.
+ * <p>
+ * Entries are collected into a batch until either the configured batch size
+ * is reached or the configured time window elapses since the first entry in
+ * the batch was received, whichever happens first. Each batch is then written
+ * using a single {@code putAll} call.
+ * <p>
+ * Backpressure is applied to the upstream observable: at most
+ * {@code cBatchSize * cMaxInFlight} entries are requested up front, and more
+ * entries are only requested as batches are written, so the number of entries
+ * held in memory is bounded regardless of the length of the stream.
+ * <p>
+ * At most {@code cMaxInFlight} batches are written concurrently. A batch that
+ * fills up while that many writes are in flight is held back until one of
+ * them completes, and a partial batch whose time window elapses in the same
+ * situation keeps collecting entries until it can be written.
+ * <p>
+ * The resulting observable emits the number of entries in each batch once it
+ * has been written, and completes when the upstream observable completes and
+ * all the batches have been written. If the upstream observable or any of the
+ * writes fail, the resulting observable fails with the same error. Writes that
+ * are already in flight when the subscriber unsubscribes are not cancelled.
+ *
+ * @param <K> the type of the entry keys
+ * @param <V> the type of the entry values
+ *
+ * @author agent  2026.10.16
+ */
+public class StreamingPutAll<K, V>
+        implements Observable.Operator<Integer, Map.Entry<? extends K, ? extends V>>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct StreamingPutAll instance.
+     *
+     * @param fnWrite       the function that writes a single batch and
+     *                      returns an observable that completes when the
+     *                      batch has been written
+     * @param cBatchSize    the maximum number of entries in a single batch
+     * @param cWindow       the maximum time to wait for a batch to fill up
+     * @param unit          the time unit of the {@code cWindow} argument
+     * @param cMaxInFlight  the maximum number of batches to write concurrently
+     * @param scheduler     the scheduler to use to flush partial batches
+     */
+    public StreamingPutAll(Function<Map<K, V>, ? extends Observable<?>> fnWrite, int cBatchSize,
+                           long cWindow, TimeUnit unit, int cMaxInFlight, Scheduler scheduler)
+        {
+        if (cBatchSize <= 0 || cMaxInFlight <= 0)
+            {
+            throw new IllegalArgumentException("batch size and the number of batches in flight must be positive");
+            }
+
+        f_fnWrite      = fnWrite;
+        f_cBatchSize   = cBatchSize;
+        f_cWindowMs    = Math.max(0L, unit.toMillis(cWindow));
+        f_cMaxInFlight = cMaxInFlight;
+        f_scheduler    = scheduler;
+        }
+
+    // ---- Observable.Operator interface -----------------------------------
+
+    @Override
+    public Subscriber<? super Map.Entry<? extends K, ? extends V>> call(Subscriber<? super Integer> child)
+        {
+        BatchingSubscriber parent = new BatchingSubscriber(new SerializedSubscriber<>(child));
+
+        child.add(parent);
+
+        return parent;
+        }
+
+    // ---- inner class: BatchingSubscriber ---------------------------------
+
+    /**
+     * The upstream subscriber that collects entries into batches and writes
+     * them.
+     */
+    protected class BatchingSubscriber
+            extends Subscriber<Map.Entry<? extends K, ? extends V>>
+        {
+        /**
+         * Construct BatchingSubscriber instance.
+         *
+         * @param child  the downstream subscriber
+         */
+        protected BatchingSubscriber(Subscriber<? super Integer> child)
+            {
+            f_child  = child;
+            f_worker = f_scheduler.createWorker();
+
+            add(f_worker);
+            }
+
+        @Override
+        public void onStart()
+            {
+            request((long) f_cBatchSize * f_cMaxInFlight);
+            }
+
+        @Override
+        public void onNext(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Batch batchFull = null;
+            long  nBatch    = 0L;
+
+            synchronized (this)
+                {
+                if (m_mapBatch == null)
+                    {
+                    m_mapBatch = new HashMap<>();
+                    nBatch     = ++m_nBatch;
+                    }
+
+                m_mapBatch.put(entry.getKey(), entry.getValue());
+
+                if (++m_cBatchEntries >= f_cBatchSize)
+                    {
+                    batchFull = submit(takeBatch());
+                    nBatch    = 0L;
+                    }
+                }
+
+            if (batchFull != null)
+                {
+                write(batchFull);
+                }
+            else if (nBatch != 0L)
+                {
+                long nScheduled = nBatch;
+                f_worker.schedule(() -> flush(nScheduled), f_cWindowMs, TimeUnit.MILLISECONDS);
+                }
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            Batch batch = null;
+
+            synchronized (this)
+                {
+                m_fUpstreamDone = true;
+                if (m_mapBatch != null)
+                    {
+                    batch = submit(takeBatch());
+                    }
+                }
+
+            if (batch == null)
+                {
+                checkComplete();
+                }
+            else
+                {
+                write(batch);
+                }
+            }
+
+        @Override
+        public void onError(Throwable e)
+            {
+            fail(e);
+            }
+
+        /**
+         * Write the current batch, if it is still the batch with the
+         * specified sequence number.
+         * <p>
+         * If the maximum number of batches is already in flight, the batch is
+         * left open and written as soon as one of the writes completes.
+         *
+         * @param nBatch  the sequence number of the batch to write
+         */
+        protected void flush(long nBatch)
+            {
+            Batch batch;
+
+            synchronized (this)
+                {
+                if (m_nBatch != nBatch || m_mapBatch == null)
+                    {
+                    return;
+                    }
+
+                if (m_cInFlight >= f_cMaxInFlight)
+                    {
+                    m_fFlushDue = true;
+                    return;
+                    }
+
+                batch = submit(takeBatch());
+                }
+
+            write(batch);
+            }
+
+        /**
+         * Reserve a write slot for the specified batch, or queue it if the
+         * maximum number of batches is already in flight; must be called
+         * while holding the monitor.
+         *
+         * @param batch  the batch to write
+         *
+         * @return the batch if it should be written now, or {@code null} if
+         *         it has been queued
+         */
+        protected Batch submit(Batch batch)
+            {
+            if (m_cInFlight < f_cMaxInFlight)
+                {
+                m_cInFlight++;
+                return batch;
+                }
+
+            f_dequePending.add(batch);
+            return null;
+            }
+
+        /**
+         * Write the specified batch, which must already hold a write slot, and
+         * request as many entries from the upstream observable as the batch
+         * contained once it is written.
+         *
+         * @param batch  the batch to write
+         */
+        protected void write(Batch batch)
+            {
+            Observable<?> observable;
+            try
+                {
+                observable = f_fnWrite.apply(batch.f_map);
+                }
+            catch (Throwable t)
+                {
+                fail(t);
+                return;
+                }
+
+            observable.subscribe(ignore -> {}, this::fail, () ->
+                    {
+                    Batch batchNext;
+
+                    synchronized (this)
+                        {
+                        m_cInFlight--;
+
+                        batchNext = f_dequePending.poll();
+                        if (batchNext == null && m_fFlushDue)
+                            {
+                            batchNext = takeBatch();
+                            }
+                        if (batchNext != null)
+                            {
+                            m_cInFlight++;
+                            }
+                        }
+
+                    if (!isTerminated() && !isUnsubscribed())
+                        {
+                        f_child.onNext(batch.f_map.size());
+                        request(batch.f_cEntries);
+
+                        if (batchNext == null)
+                            {
+                            checkComplete();
+                            }
+                        else
+                            {
+                            write(batchNext);
+                            }
+                        }
+                    });
+            }
+
+        /**
+         * Complete the downstream subscriber if the upstream observable has
+         * completed and all batches have been written.
+         */
+        protected void checkComplete()
+            {
+            synchronized (this)
+                {
+                if (m_fTerminated || !m_fUpstreamDone || m_cInFlight > 0 || m_mapBatch != null
+                    || !f_dequePending.isEmpty())
+                    {
+                    return;
+                    }
+                m_fTerminated = true;
+                }
+
+            unsubscribe();
+            f_child.onCompleted();
+            }
+
+        /**
+         * Terminate the downstream subscriber with the specified error, unless
+         * it has already been terminated.
+         *
+         * @param t  the error
+         */
+        protected void fail(Throwable t)
+            {
+            synchronized (this)
+                {
+                if (m_fTerminated)
+                    {
+                    return;
+                    }
+                m_fTerminated = true;
+                }
+
+            unsubscribe();
+            f_child.onError(t);
+            }
+
+        /**
+         * Return {@code true} if the downstream subscriber has been terminated.
+         *
+         * @return {@code true} if the downstream subscriber has been terminated
+         */
+        protected synchronized boolean isTerminated()
+            {
+            return m_fTerminated;
+            }
+
+        /**
+         * Close the current batch and start a new one; must be called while
+         * holding the monitor.
+         *
+         * @return the closed batch
+         */
+        protected Batch takeBatch()
+            {
+            Batch batch = new Batch(m_mapBatch, m_cBatchEntries);
+
+            m_mapBatch      = null;
+            m_cBatchEntries = 0;
+            m_fFlushDue     = false;
+
+            return batch;
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The downstream subscriber.
+         */
+        protected final Subscriber<? super Integer> f_child;
+
+        /**
+         * The worker used to flush partial batches.
+         */
+        protected final Scheduler.Worker f_worker;
+
+        /**
+         * The batch that is currently being collected.
+         */
+        protected Map<K, V> m_mapBatch;
+
+        /**
+         * The number of entries received for the current batch.
+         */
+        protected int m_cBatchEntries;
+
+        /**
+         * The sequence number of the current batch.
+         */
+        protected long m_nBatch;
+
+        /**
+         * The number of batches that are being written.
+         */
+        protected int m_cInFlight;
+
+        /**
+         * The full batches waiting for a write slot, in the order they were
+         * filled.
+         */
+        protected final Deque<Batch> f_dequePending = new ArrayDeque<>();
+
+        /**
+         * The flag specifying whether the time window of the current batch
+         * elapsed while the maximum number of batches was in flight.
+         */
+        protected boolean m_fFlushDue;
+
+        /**
+         * The flag specifying whether the upstream observable has completed.
+         */
+        protected boolean m_fUpstreamDone;
+
+        /**
+         * The flag specifying whether the downstream subscriber has been
+         * terminated.
+         */
+        protected boolean m_fTerminated;
+        }
+
+    // ---- inner class: Batch ----------------------------------------------
+
+    /**
+     * A closed batch of entries.
+     */
+    protected class Batch
+        {
+        /**
+         * Construct Batch instance.
+         *
+         * @param map       the entries to write
+         * @param cEntries  the number of entries received for the batch,
+         *                  including any duplicate keys
+         */
+        protected Batch(Map<K, V> map, int cEntries)
+            {
+            f_map      = map;
+            f_cEntries = cEntries;
+            }
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The entries to write.
+         */
+        protected final Map<K, V> f_map;
+
+        /**
+         * The number of entries received for the batch, including any
+         * duplicate keys.
+         */
+        protected final int f_cEntries;
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The function that writes a single batch.
+     */
+    protected final Function<Map<K, V>, ? extends Observable<?>> f_fnWrite;
+
+    /**
+     * The maximum number of entries in a single batch.
+     */
+    protected final int f_cBatchSize;
+
+    /**
+     * The maximum time to wait for a batch to fill up, in milliseconds.
+     */
+    protected final long f_cWindowMs;
+
+    /**
+     * The maximum number of batches to write concurrently.
+     */
+    protected final int f_cMaxInFlight;
+
+    /**
+     * The scheduler used to flush partial batches.
+     */
+    protected final Scheduler f_scheduler;
+    }
@@ -0,0 +1,361 @@
+/*
+ * File: SubscriberRegistry.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import java.util.function.Consumer;
+
+
+/**
+ * A set of subscribers that can be registered and unregistered at a high
+ * rate, and iterated over without locking.
+ * <p>
+ * Unlike a {@link java.util.concurrent.CopyOnWriteArraySet}, which copies all
+ * of its elements on every change, this registry stores each subscriber in a
+ * slot of an array that only grows when all the slots are in use, and reuses
+ * the slots of unregistered subscribers. Both {@link #register} and
+ * {@link #unregister} are therefore amortized constant-time operations that do
+ * not allocate, as long as the number of registered subscribers stays below
+ * its previous peak, while {@link #forEach} simply scans the array.
+ * <p>
+ * When most of the subscribers unregister, the remaining ones are compacted
+ * into a smaller array, so the cost of a scan stays proportional to the
+ * number of registered subscribers rather than to their peak. Because of
+ * that, {@link #register} returns a handle rather than the slot itself, and
+ * the handle is mapped to the current slot of the subscriber.
+ * <p>
+ * Registration changes are serialized, but iteration never blocks. Just like
+ * with a {@code CopyOnWriteArraySet}, a subscriber that is registered or
+ * unregistered during iteration may or may not be visited, while all other
+ * subscribers are visited exactly once.
+ *
+ * @param <T> the type of the subscribers
+ *
+ * @author agent  2026.10.16
+ */
+public class SubscriberRegistry<T>
+        extends AbstractSet<T>
+    {
+    // ---- registration ----------------------------------------------------
+
+    /**
+     * Register the specified subscriber.
+     * <p>
+     * Unlike {@link #add}, this method does not check whether the subscriber
+     * is already registered.
+     *
+     * @param subscriber  the subscriber to register
+     *
+     * @return the handle of the registration, which needs to be passed to
+     *         {@link #unregister}
+     */
+    public synchronized int register(T subscriber)
+        {
+        if (subscriber == null)
+            {
+            throw new IllegalArgumentException("subscriber must not be null");
+            }
+
+        int nSlot = m_cFree > 0 ? m_anFree[--m_cFree] : m_cHighWater;
+
+        AtomicReferenceArray<T> aSlots = m_aSlots;
+        if (nSlot >= aSlots.length())
+            {
+            AtomicReferenceArray<T> aGrown = new AtomicReferenceArray<>(aSlots.length() * 2);
+            for (int i = 0, c = aSlots.length(); i < c; i++)
+                {
+                aGrown.lazySet(i, aSlots.get(i));
+                }
+            m_anHandleOf = Arrays.copyOf(m_anHandleOf, aGrown.length());
+            m_aSlots     = aSlots = aGrown;
+            }
+
+        int nHandle = m_cFreeHandles > 0 ? m_anFreeHandles[--m_cFreeHandles] : m_cHandles++;
+        if (nHandle == m_anSlotOf.length)
+            {
+            m_anSlotOf = Arrays.copyOf(m_anSlotOf, nHandle * 2);
+            }
+
+        m_anSlotOf[nHandle] = nSlot;
+        m_anHandleOf[nSlot] = nHandle;
+
+        aSlots.set(nSlot, subscriber);
+        if (nSlot == m_cHighWater)
+            {
+            m_cHighWater = nSlot + 1;
+            }
+        m_cSize++;
+
+        return nHandle;
+        }
+
+    /**
+     * Unregister the subscriber with the specified handle.
+     *
+     * @param nHandle     the handle returned by {@link #register}
+     * @param subscriber  the subscriber to unregister
+     *
+     * @return {@code true} if the subscriber was unregistered, or
+     *         {@code false} if it wasn't registered with the specified handle
+     */
+    public synchronized boolean unregister(int nHandle, T subscriber)
+        {
+        if (nHandle < 0 || nHandle >= m_cHandles)
+            {
+            return false;
+            }
+
+        AtomicReferenceArray<T> aSlots = m_aSlots;
+        int                     nSlot  = m_anSlotOf[nHandle];
+        if (nSlot < 0 || aSlots.get(nSlot) != subscriber)
+            {
+            return false;
+            }
+
+        aSlots.set(nSlot, null);
+        m_anSlotOf[nHandle] = -1;
+        m_cSize--;
+
+        m_anFreeHandles = push(m_anFreeHandles, m_cFreeHandles++, nHandle);
+
+        if (aSlots.length() > INITIAL_CAPACITY && m_cSize <= aSlots.length() / 4)
+            {
+            compact();
+            }
+        else
+            {
+            m_anFree = push(m_anFree, m_cFree++, nSlot);
+            }
+
+        return true;
+        }
+
+    // ---- Set interface ---------------------------------------------------
+
+    @Override
+    public void forEach(Consumer<? super T> action)
+        {
+        AtomicReferenceArray<T> aSlots = m_aSlots;
+        for (int i = 0, c = aSlots.length(); i < c; i++)
+            {
+            T subscriber = aSlots.get(i);
+            if (subscriber != null)
+                {
+                action.accept(subscriber);
+                }
+            }
+        }
+
+    @Override
+    public Iterator<T> iterator()
+        {
+        AtomicReferenceArray<T> aSlots = m_aSlots;
+        int                     cSlots = aSlots.length();
+
+        return new Iterator<T>()
+            {
+            @Override
+            public boolean hasNext()
+                {
+                while (m_next == null && m_nSlot < cSlots)
+                    {
+                    m_next = aSlots.get(m_nSlot++);
+                    }
+
+                return m_next != null;
+                }
+
+            @Override
+            public T next()
+                {
+                if (!hasNext())
+                    {
+                    throw new NoSuchElementException();
+                    }
+
+                T next = m_next;
+                m_next = null;
+
+                return next;
+                }
+
+            private int m_nSlot;
+
+            private T m_next;
+            };
+        }
+
+    @Override
+    public int size()
+        {
+        return m_cSize;
+        }
+
+    @Override
+    public synchronized boolean add(T subscriber)
+        {
+        if (contains(subscriber))
+            {
+            return false;
+            }
+
+        register(subscriber);
+
+        return true;
+        }
+
+    @Override
+    public synchronized boolean remove(Object subscriber)
+        {
+        AtomicReferenceArray<T> aSlots = m_aSlots;
+        for (int i = 0; i < m_cHighWater; i++)
+            {
+            if (subscriber != null && subscriber.equals(aSlots.get(i)))
+                {
+                return unregister(m_anHandleOf[i], aSlots.get(i));
+                }
+            }
+
+        return false;
+        }
+
+    // ---- helper methods --------------------------------------------------
+
+    /**
+     * Move the registered subscribers into a new array that is just large
+     * enough to hold them, preserving their order; must be called while
+     * holding the monitor.
+     * <p>
+     * The old array is never modified afterwards, so the iterations that are
+     * in progress still visit each subscriber at most once.
+     */
+    protected void compact()
+        {
+        AtomicReferenceArray<T> aSlots     = m_aSlots;
+        int                     cCapacity  = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(m_cSize) * 2);
+        AtomicReferenceArray<T> aCompact   = new AtomicReferenceArray<>(cCapacity);
+        int[]                   anHandleOf = new int[cCapacity];
+        int                     nSlot      = 0;
+
+        for (int i = 0; i < m_cHighWater; i++)
+            {
+            T subscriber = aSlots.get(i);
+            if (subscriber != null)
+                {
+                int nHandle = m_anHandleOf[i];
+
+                aCompact.lazySet(nSlot, subscriber);
+                anHandleOf[nSlot]   = nHandle;
+                m_anSlotOf[nHandle] = nSlot;
+                nSlot++;
+                }
+            }
+
+        m_anHandleOf = anHandleOf;
+        m_cHighWater = nSlot;
+        m_cFree      = 0;
+        m_aSlots     = aCompact;
+        }
+
+    /**
+     * Push the specified value onto a stack, growing it if necessary.
+     *
+     * @param an      the stack
+     * @param cStack  the number of values on the stack
+     * @param n       the value to push
+     *
+     * @return the stack, which may have been reallocated
+     */
+    protected static int[] push(int[] an, int cStack, int n)
+        {
+        if (cStack == an.length)
+            {
+            an = Arrays.copyOf(an, an.length * 2);
+            }
+        an[cStack] = n;
+
+        return an;
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The initial number of slots.
+     */
+    protected static final int INITIAL_CAPACITY = 16;
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The slots the subscribers are registered in.
+     */
+    protected volatile AtomicReferenceArray<T> m_aSlots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /**
+     * The number of slots of the current array that have ever been used.
+     */
+    protected int m_cHighWater;
+
+    /**
+     * The number of registered subscribers.
+     */
+    protected volatile int m_cSize;
+
+    /**
+     * The stack of unused slots below the high-water mark.
+     */
+    protected int[] m_anFree = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of unused slots on the stack.
+     */
+    protected int m_cFree;
+
+    /**
+     * The handle of the registration in each slot.
+     */
+    protected int[] m_anHandleOf = new int[INITIAL_CAPACITY];
+
+    /**
+     * The slot of each registration handle, or -1 if the handle is unused.
+     */
+    protected int[] m_anSlotOf = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of handles that have ever been used.
+     */
+    protected int m_cHandles;
+
+    /**
+     * The stack of unused handles below {@link #m_cHandles}.
+     */
+    protected int[] m_anFreeHandles = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of unused handles on the stack.
+     */
+    protected int m_cFreeHandles;
+    }
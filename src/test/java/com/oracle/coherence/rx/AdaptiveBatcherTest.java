@@ -0,0 +1,106 @@
+/*
+ * File: AdaptiveBatcherTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import org.junit.Test;
+
+import rx.Observable;
+
+import rx.observers.TestSubscriber;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for AdaptiveBatcher class.
+ *
+ * @author agent  2026.10.16
+ */
+public class AdaptiveBatcherTest
+    {
+    @Test
+    public void testEmitsImmediatelyWhenThereIsDemand()
+        {
+        TestSubscriber<List<Integer>> subscriber = new TestSubscriber<>();
+
+        Observable.range(0, 3).lift(new AdaptiveBatcher<Integer>(10)).subscribe(subscriber);
+
+        subscriber.assertCompleted();
+        assertEquals(Arrays.asList(Collections.singletonList(0),
+                                   Collections.singletonList(1),
+                                   Collections.singletonList(2)),
+                     subscriber.getOnNextEvents());
+        }
+
+    @Test
+    public void testBatchesGrowWhenSubscriberFallsBehind()
+        {
+        TestSubscriber<List<Integer>> subscriber = new TestSubscriber<>(1L);
+
+        Observable.range(0, 5).lift(new AdaptiveBatcher<Integer>(10)).subscribe(subscriber);
+        assertEquals(Collections.singletonList(Collections.singletonList(0)), subscriber.getOnNextEvents());
+
+        subscriber.requestMore(1L);
+        subscriber.assertCompleted();
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.getOnNextEvents().get(1));
+        }
+
+    @Test
+    public void testBoundsBatchSizeAndPrefetch()
+        {
+        AtomicLong                    cRequested = new AtomicLong();
+        TestSubscriber<List<Integer>> subscriber = new TestSubscriber<>(0L);
+
+        Observable.range(0, 25)
+                .doOnRequest(cRequested::addAndGet)
+                .lift(new AdaptiveBatcher<Integer>(10))
+                .subscribe(subscriber);
+
+        assertEquals(10L, cRequested.get());
+        subscriber.assertNoValues();
+
+        subscriber.requestMore(1L);
+        assertEquals(10, subscriber.getOnNextEvents().get(0).size());
+        assertEquals(20L, cRequested.get());
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertEquals(3, subscriber.getOnNextEvents().size());
+        assertEquals(Arrays.asList(20, 21, 22, 23, 24), subscriber.getOnNextEvents().get(2));
+        }
+
+    @Test
+    public void testError()
+        {
+        TestSubscriber<List<Integer>> subscriber = new TestSubscriber<>();
+
+        Observable.<Integer>error(new IllegalStateException("expected"))
+                .lift(new AdaptiveBatcher<Integer>(10))
+                .subscribe(subscriber);
+
+        subscriber.assertError(IllegalStateException.class);
+        }
+    }
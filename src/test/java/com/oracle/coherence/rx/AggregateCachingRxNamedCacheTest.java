@@ -0,0 +1,219 @@
+/*
+ * File: AggregateCachingRxNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.aggregator.Count;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.GreaterFilter;
+import com.tangosol.util.filter.LessFilter;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.oracle.coherence.rx.RxNamedCache.rx;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for AggregateCachingRxNamedCache class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class AggregateCachingRxNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testSizeIsCachedUntilChange() throws Exception
+        {
+        NamedCache<Integer, Integer>                   cache   = getNamedCache();
+        AggregateCachingRxNamedCache<Integer, Integer> rxCache = new AggregateCachingRxNamedCache<>(rx(cache), cache);
+
+        try
+            {
+            RxNamedCacheTest.populate(cache, 10);
+
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertFalse(rxCache.isEmpty().toBlocking().single());
+            assertEquals(1L, rxCache.getMissCount());
+            assertEquals(2L, rxCache.getHitCount());
+
+            cache.put(10, 10);
+
+            for (int i = 0; i < 100 && rxCache.size().toBlocking().single() != 11; i++)
+                {
+                Thread.sleep(50);
+                }
+            assertEquals(11, (int) rxCache.size().toBlocking().single());
+            }
+        finally
+            {
+            rxCache.release();
+            }
+        }
+
+    @Test
+    public void testOnlyMatchingChangesInvalidate() throws Exception
+        {
+        NamedCache<Integer, Integer>                   cache   = getNamedCache();
+        AggregateCachingRxNamedCache<Integer, Integer> rxCache = new AggregateCachingRxNamedCache<>(rx(cache), cache);
+
+        try
+            {
+            RxNamedCacheTest.populate(cache, 10);
+
+            LessFilter filter = new LessFilter(IdentityExtractor.INSTANCE, 5);
+            Count      count  = new Count();
+
+            assertEquals(5, (int) rxCache.aggregate(filter, count).toBlocking().single());
+
+            cache.put(100, 100);
+            Thread.sleep(250);
+
+            assertEquals(5, (int) rxCache.aggregate(filter, count).toBlocking().single());
+            assertEquals(1L, rxCache.getMissCount());
+
+            cache.remove(0);
+
+            for (int i = 0; i < 100 && (int) rxCache.aggregate(filter, count).toBlocking().single() != 4; i++)
+                {
+                Thread.sleep(50);
+                }
+            assertEquals(4, (int) rxCache.aggregate(filter, count).toBlocking().single());
+            assertEquals(10, (int) rxCache.aggregate(new GreaterFilter(IdentityExtractor.INSTANCE, 0), count)
+                    .toBlocking().single());
+            }
+        finally
+            {
+            rxCache.release();
+            }
+        }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedFilter() throws Exception
+        {
+        NamedCache<Integer, Integer>                   cache   = getNamedCache();
+        AggregateCachingRxNamedCache<Integer, Integer> rxCache =
+                new AggregateCachingRxNamedCache<>(rx(cache), cache, 0L, TimeUnit.MILLISECONDS, 2);
+
+        try
+            {
+            RxNamedCacheTest.populate(cache, 10);
+
+            LessFilter filter1 = new LessFilter(IdentityExtractor.INSTANCE, 1);
+            LessFilter filter2 = new LessFilter(IdentityExtractor.INSTANCE, 2);
+            LessFilter filter3 = new LessFilter(IdentityExtractor.INSTANCE, 3);
+            Count      count   = new Count();
+
+            assertEquals(1, (int) rxCache.aggregate(filter1, count).toBlocking().single());
+            assertEquals(2, (int) rxCache.aggregate(filter2, count).toBlocking().single());
+            assertEquals(1, (int) rxCache.aggregate(filter1, count).toBlocking().single());
+
+            AggregateCachingRxNamedCache<Integer, Integer>.FilterResults results2 = rxCache.f_mapFilters.get(filter2);
+
+            assertEquals(3, (int) rxCache.aggregate(filter3, count).toBlocking().single());
+            assertEquals(2, rxCache.f_mapFilters.size());
+            assertFalse(rxCache.f_mapFilters.containsKey(filter2));
+            assertEquals(3L, rxCache.getMissCount());
+
+            // the listener of the evicted filter no longer receives events
+            long nVersion = results2.m_nVersion;
+
+            cache.put(-1, -1);
+            Thread.sleep(250);
+            assertEquals(nVersion, results2.m_nVersion);
+
+            assertEquals(3, (int) rxCache.aggregate(filter2, count).toBlocking().single());
+            assertEquals(4L, rxCache.getMissCount());
+            }
+        finally
+            {
+            rxCache.release();
+            }
+
+        assertTrue(rxCache.f_mapFilters.isEmpty());
+        }
+
+    @Test
+    public void testStalenessBound() throws Exception
+        {
+        NamedCache<Integer, Integer>                   cache   = getNamedCache();
+        AggregateCachingRxNamedCache<Integer, Integer> rxCache =
+                new AggregateCachingRxNamedCache<>(rx(cache), cache, 100, TimeUnit.MILLISECONDS);
+
+        try
+            {
+            RxNamedCacheTest.populate(cache, 10);
+
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertEquals(1L, rxCache.getMissCount());
+
+            Thread.sleep(200);
+
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertEquals(2L, rxCache.getMissCount());
+
+            rxCache.invalidateAll();
+
+            assertEquals(10, (int) rxCache.size().toBlocking().single());
+            assertEquals(3L, rxCache.getMissCount());
+            }
+        finally
+            {
+            rxCache.release();
+            }
+        }
+    }
@@ -0,0 +1,290 @@
+/*
+ * File: CoalescingRxNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.NearCache;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ValueExtractor;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import rx.Observable;
+
+import rx.observers.TestSubscriber;
+
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.oracle.coherence.rx.RxNamedCache.rx;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for CoalescingRxNamedCache class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class CoalescingRxNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testCoalescedGet()
+        {
+        NamedCache<Integer, Integer>   cache    = getNamedCache();
+        CountingRxNamedCache           counting = new CountingRxNamedCache(rx(cache));
+        RxNamedCache<Integer, Integer> rxCache  = new CoalescingRxNamedCache<>(counting, 10, 1, TimeUnit.SECONDS);
+
+        List<Integer> listExpected = RxNamedCacheTest.populate(cache, 10);
+
+        List<Observable<Integer>> listGets = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            {
+            listGets.add(rxCache.get(i));
+            }
+
+        assertEquals(listExpected, Observable.merge(listGets).toSortedList().toBlocking().single());
+        assertEquals(1, counting.f_cInvokeAll.get());
+        assertEquals(0, counting.f_cInvoke.get());
+        }
+
+    @Test
+    public void testCoalescedPutWithinWindow()
+        {
+        NamedCache<Integer, Integer>   cache    = getNamedCache();
+        CountingRxNamedCache           counting = new CountingRxNamedCache(rx(cache));
+        RxNamedCache<Integer, Integer> rxCache  = new CoalescingRxNamedCache<>(counting, 100, 50, TimeUnit.MILLISECONDS);
+
+        Observable.merge(Arrays.asList(rxCache.put(1, 1), rxCache.put(2, 2), rxCache.put(3, 3)))
+                .toBlocking()
+                .lastOrDefault(null);
+
+        assertEquals(1, counting.f_cPutAll.get());
+        assertEquals(1, (int) cache.get(1));
+        assertEquals(2, (int) cache.get(2));
+        assertEquals(3, (int) cache.get(3));
+        }
+
+    @Test
+    public void testCoalescedRemove()
+        {
+        NamedCache<Integer, Integer>   cache    = getNamedCache();
+        CountingRxNamedCache           counting = new CountingRxNamedCache(rx(cache));
+        RxNamedCache<Integer, Integer> rxCache  = new CoalescingRxNamedCache<>(counting, 3, 1, TimeUnit.SECONDS);
+
+        RxNamedCacheTest.populate(cache, 2);
+
+        assertEquals(Arrays.asList(null, 0, 1),
+                     Observable.merge(Arrays.asList(rxCache.remove(0), rxCache.remove(1), rxCache.remove(5)))
+                             .toSortedList((a, b) -> a == null ? -1 : b == null ? 1 : a.compareTo(b))
+                             .toBlocking()
+                             .single());
+        assertEquals(1, counting.f_cInvokeAll.get());
+        assertTrue(cache.isEmpty());
+        }
+
+    @Test
+    public void testDuplicateRemoveReturnsValueOnce()
+        {
+        NamedCache<Integer, Integer>   cache    = getNamedCache();
+        CountingRxNamedCache           counting = new CountingRxNamedCache(rx(cache));
+        RxNamedCache<Integer, Integer> rxCache  = new CoalescingRxNamedCache<>(counting, 2, 1, TimeUnit.SECONDS);
+
+        RxNamedCacheTest.populate(cache, 1);
+
+        assertEquals(Arrays.asList(null, 0),
+                     Observable.merge(Arrays.asList(rxCache.remove(0), rxCache.remove(0)))
+                             .toSortedList((a, b) -> a == null ? -1 : b == null ? 1 : a.compareTo(b))
+                             .toBlocking()
+                             .single());
+        assertEquals(1, counting.f_cInvokeAll.get());
+        }
+
+    @Test
+    public void testTimerOnlyFlushesItsOwnBatch()
+        {
+        NamedCache<Integer, Integer>   cache     = getNamedCache();
+        CountingRxNamedCache           counting  = new CountingRxNamedCache(rx(cache));
+        TestScheduler                  scheduler = new TestScheduler();
+        RxNamedCache<Integer, Integer> rxCache   =
+                new CoalescingRxNamedCache<>(counting, 2, 100, TimeUnit.MILLISECONDS, scheduler);
+
+        rxCache.get(1).subscribe(new TestSubscriber<>());
+        rxCache.get(2).subscribe(new TestSubscriber<>());
+        assertEquals(1, counting.f_cInvokeAll.get());
+
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        rxCache.get(3).subscribe(new TestSubscriber<>());
+
+        // the timer for the first batch must not flush the second one
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        assertEquals(1, counting.f_cInvokeAll.get());
+
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        assertEquals(2, counting.f_cInvokeAll.get());
+        }
+
+    @Test
+    public void testGetReadsFrontMapBeforeBatching()
+        {
+        NamedCache<Integer, String>   back      = getNamedCache();
+        NearCache<Integer, String>    near      = new NearCache<>(new LocalCache(), back);
+        TestScheduler                 scheduler = new TestScheduler();
+        RxNamedCache<Integer, String> rxCache   = new CoalescingRxNamedCache<>(
+                rx(near, RxNamedCacheOptions.DEFAULT.withFrontMapReads(true)), 10, 1, TimeUnit.SECONDS, scheduler);
+
+        back.put(1, "back");
+        back.put(2, "back");
+        near.getFrontMap().put(1, "front");
+
+        TestSubscriber<String> front = new TestSubscriber<>();
+        TestSubscriber<String> batch = new TestSubscriber<>();
+        rxCache.get(1).subscribe(front);
+        rxCache.get(2).subscribe(batch);
+
+        front.assertValue("front");
+        batch.assertNoValues();
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        batch.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        batch.assertValue("back");
+        }
+
+    // ---- inner class: CountingRxNamedCache -------------------------------
+
+    /**
+     * RxNamedCache decorator that counts the calls to the delegate.
+     */
+    protected static class CountingRxNamedCache
+            implements RxNamedCache<Integer, Integer>
+        {
+        protected CountingRxNamedCache(RxNamedCache<Integer, Integer> delegate)
+            {
+            f_delegate = delegate;
+            }
+
+        @Override
+        public <R> Observable<R> invoke(Integer key, InvocableMap.EntryProcessor<Integer, Integer, R> processor)
+            {
+            f_cInvoke.incrementAndGet();
+            return f_delegate.invoke(key, processor);
+            }
+
+        @Override
+        public <R> Observable<? extends Map.Entry<? extends Integer, ? extends R>>
+        invokeAll(Collection<? extends Integer> collKeys, InvocableMap.EntryProcessor<Integer, Integer, R> processor)
+            {
+            f_cInvokeAll.incrementAndGet();
+            return f_delegate.invokeAll(collKeys, processor);
+            }
+
+        @Override
+        public <R> Observable<? extends Map.Entry<? extends Integer, ? extends R>>
+        invokeAll(Filter filter, InvocableMap.EntryProcessor<Integer, Integer, R> processor)
+            {
+            f_cInvokeAll.incrementAndGet();
+            return f_delegate.invokeAll(filter, processor);
+            }
+
+        @Override
+        public <R> Observable<R> aggregate(Collection<? extends Integer> collKeys,
+                                           InvocableMap.EntryAggregator<? super Integer, ? super Integer, R> aggregator)
+            {
+            return f_delegate.aggregate(collKeys, aggregator);
+            }
+
+        @Override
+        public <R> Observable<R> aggregate(Filter filter,
+                                           InvocableMap.EntryAggregator<? super Integer, ? super Integer, R> aggregator)
+            {
+            return f_delegate.aggregate(filter, aggregator);
+            }
+
+        @Override
+        public Observable<Void> putAll(Map<? extends Integer, ? extends Integer> map)
+            {
+            f_cPutAll.incrementAndGet();
+            return f_delegate.putAll(map);
+            }
+
+        @Override
+        public Observable<MapEvent<Integer, Integer>> continuousQuery(Filter filter)
+            {
+            return f_delegate.continuousQuery(filter);
+            }
+
+        @Override
+        public <E> Observable<MapEvent<Integer, E>> continuousQuery(Filter filter,
+                                                                    ValueExtractor<? super Integer, ? extends E> extractor)
+            {
+            return f_delegate.continuousQuery(filter, extractor);
+            }
+
+        protected final RxNamedCache<Integer, Integer> f_delegate;
+
+        protected final AtomicInteger f_cInvoke    = new AtomicInteger();
+        protected final AtomicInteger f_cInvokeAll = new AtomicInteger();
+        protected final AtomicInteger f_cPutAll    = new AtomicInteger();
+        }
+    }
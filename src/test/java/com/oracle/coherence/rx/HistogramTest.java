@@ -0,0 +1,101 @@
+/*
+ * File: HistogramTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for Histogram class.
+ *
+ * @author agent  2026.10.16
+ */
+public class HistogramTest
+    {
+    @Test
+    public void testEmpty()
+        {
+        Histogram histogram = new Histogram();
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMax());
+        assertEquals(0.0, histogram.getMean(), 0.0);
+        assertEquals(0L, histogram.getValueAtPercentile(99.0));
+        }
+
+    @Test
+    public void testSmallValuesAreExact()
+        {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 10; i++)
+            {
+            histogram.record(i);
+            }
+
+        assertEquals(10L, histogram.getCount());
+        assertEquals(10L, histogram.getMax());
+        assertEquals(5.5, histogram.getMean(), 0.0);
+        assertEquals(5L, histogram.getValueAtPercentile(50.0));
+        assertEquals(10L, histogram.getValueAtPercentile(100.0));
+        }
+
+    @Test
+    public void testPercentilesWithinRelativeError()
+        {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 100_000; i++)
+            {
+            histogram.record(i * 1000L);
+            }
+
+        assertEquals(50_000_000L, histogram.getValueAtPercentile(50.0), 50_000_000L * 0.04);
+        assertEquals(99_000_000L, histogram.getValueAtPercentile(99.0), 99_000_000L * 0.04);
+        assertEquals(99_900_000L, histogram.getValueAtPercentile(99.9), 99_900_000L * 0.04);
+        assertEquals(100_000_000L, histogram.getMax());
+        }
+
+    @Test
+    public void testBucketBoundaries()
+        {
+        for (long n : new long[] {0L, 1L, 31L, 32L, 33L, 63L, 64L, 1000L, 1L << 40, Long.MAX_VALUE})
+            {
+            int nIndex = Histogram.indexOf(n);
+
+            assertTrue(nIndex < Histogram.BUCKETS);
+            assertTrue(Histogram.highestEquivalentValue(nIndex) >= n);
+            assertTrue(nIndex == 0 || Histogram.highestEquivalentValue(nIndex - 1) < n);
+            }
+        }
+
+    @Test
+    public void testReset()
+        {
+        Histogram histogram = new Histogram();
+
+        histogram.record(42L);
+        histogram.reset();
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMax());
+        assertEquals(0L, histogram.getValueAtPercentile(50.0));
+        }
+    }
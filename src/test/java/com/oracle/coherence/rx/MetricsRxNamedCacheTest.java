@@ -0,0 +1,194 @@
+/*
+ * File: MetricsRxNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.InvocableMap;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import rx.Observable;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.Collections;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static com.oracle.coherence.rx.RxNamedCache.rx;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for MetricsRxNamedCache class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class MetricsRxNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testDerivedOperationsAreRecordedByName()
+        {
+        NamedCache<Integer, Integer>          cache   = getNamedCache();
+        MetricsRxNamedCache<Integer, Integer> rxCache = new MetricsRxNamedCache<>(rx(cache));
+
+        RxNamedCacheTest.populate(cache, 10);
+
+        assertEquals(1, (int) rxCache.get(1).toBlocking().single());
+        assertEquals(10, (int) rxCache.size().toBlocking().single());
+
+        OperationMetrics metricsGet = rxCache.getMetrics("get");
+        assertEquals(1L, metricsGet.getCallCount());
+        assertEquals(1L, metricsGet.getEntriesEmitted());
+        assertEquals(0L, metricsGet.getInFlightCount());
+        assertEquals(1L, metricsGet.getLatencyHistogram().getCount());
+        assertTrue(metricsGet.getLatencyMaxMillis() > 0.0);
+
+        assertEquals(1L, rxCache.getMetrics("size").getCallCount());
+        assertEquals(0L, rxCache.getMetrics("invoke").getCallCount());
+        assertEquals(0L, rxCache.getMetrics("aggregate").getCallCount());
+        }
+
+    @Test
+    public void testEntriesPerCall()
+        {
+        NamedCache<Integer, Integer>          cache   = getNamedCache();
+        MetricsRxNamedCache<Integer, Integer> rxCache = new MetricsRxNamedCache<>(rx(cache));
+
+        RxNamedCacheTest.populate(cache, 10);
+
+        assertEquals(10, (int) rxCache.entrySet().count().toBlocking().single());
+        assertEquals(10, (int) rxCache.keySet().count().toBlocking().single());
+
+        OperationMetrics metrics = rxCache.getMetrics("entrySet");
+        assertEquals(1L, metrics.getCallCount());
+        assertEquals(10L, metrics.getEntriesEmitted());
+        assertEquals(10L, metrics.getEntriesPerCallMax());
+        assertEquals(1L, rxCache.getMetrics("keySet").getCallCount());
+        }
+
+    @Test
+    public void testErrorsAndCancellations()
+            throws Exception
+        {
+        NamedCache<Integer, Integer>          cache   = getNamedCache();
+        MetricsRxNamedCache<Integer, Integer> rxCache = new MetricsRxNamedCache<>(rx(cache));
+
+        RxNamedCacheTest.populate(cache, 10);
+
+        InvocableMap.EntryProcessor<Integer, Integer, Integer> failing = entry ->
+                {
+                throw new IllegalStateException("expected");
+                };
+
+        try
+            {
+            rxCache.invoke(1, failing).toBlocking().single();
+            fail("should have thrown");
+            }
+        catch (RuntimeException expected)
+            {
+            }
+
+        assertNotNull(rxCache.values().first().toBlocking().single());
+
+        OperationMetrics metricsInvoke = rxCache.getMetrics("invoke");
+        assertEquals(1L, metricsInvoke.getCallCount());
+        assertEquals(1L, metricsInvoke.getErrorCount());
+        assertEquals(0L, metricsInvoke.getInFlightCount());
+
+        // take(1) completes the downstream before it unsubscribes from
+        // upstream, so the cancellation may not have been recorded yet
+        OperationMetrics metricsValues = rxCache.getMetrics("values");
+        for (int i = 0; i < 100 && metricsValues.getCancelledCount() == 0L; i++)
+            {
+            Thread.sleep(50);
+            }
+
+        assertEquals(1L, metricsValues.getCallCount());
+        assertEquals(1L, metricsValues.getCancelledCount());
+        assertEquals(0L, metricsValues.getInFlightCount());
+        assertEquals(0L, metricsValues.getErrorCount());
+        }
+
+    @Test
+    public void testMBeans()
+            throws Exception
+        {
+        NamedCache<Integer, Integer>          cache   = getNamedCache();
+        MetricsRxNamedCache<Integer, Integer> rxCache = new MetricsRxNamedCache<>(rx(cache));
+        MBeanServer                           server  = ManagementFactory.getPlatformMBeanServer();
+        ObjectName                            name    =
+                new ObjectName("com.oracle.coherence.rx:type=RxNamedCache,name=\"test\",operation=putAll");
+
+        rxCache.registerMBeans("test");
+        try
+            {
+            Observable.range(0, 3)
+                    .flatMap(i -> rxCache.put(i, i))
+                    .toBlocking().lastOrDefault(null);
+            rxCache.putAll(Collections.singletonMap(5, 5)).toBlocking().lastOrDefault(null);
+
+            assertTrue(server.isRegistered(name));
+            assertEquals(1L, server.getAttribute(name, "CallCount"));
+            assertEquals(0L, server.getAttribute(name, "InFlightCount"));
+            assertEquals(3L, rxCache.getMetrics("put").getCallCount());
+            }
+        finally
+            {
+            rxCache.unregisterMBeans();
+            }
+
+        assertFalse(server.isRegistered(name));
+        }
+    }
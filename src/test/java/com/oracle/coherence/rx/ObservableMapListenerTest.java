@@ -30,16 +30,39 @@ import com.tangosol.net.ConfigurableCacheFactory;
 import com.tangosol.net.NamedCache;
 
 import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.InFilter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import rx.Subscriber;
+
+import rx.exceptions.MissingBackpressureException;
+
+import rx.observers.TestSubscriber;
+
+import rx.schedulers.TestScheduler;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -60,9 +83,14 @@ public class ObservableMapListenerTest
     public static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
 
     protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        return getNamedCache("test");
+        }
+
+    protected <K, V> NamedCache<K, V> getNamedCache(String sName)
         {
         ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
-        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+        NamedCache               cache        = cacheFactory.ensureCache(sName, null);
 
         cache.clear();
 
@@ -103,6 +131,399 @@ public class ObservableMapListenerTest
         latch.await();
         }
 
+    @Test
+    public void testFilteredObservableMapListener() throws Exception
+        {
+        NamedCache<Integer, String> cache = getNamedCache();
+
+        List<MapEvent<Integer, String>> expected = new ArrayList<>(3);
+        expected.add(new MapEvent<>(cache, MapEvent.ENTRY_INSERTED, 1, null, "one"));
+        expected.add(new MapEvent<>(cache, MapEvent.ENTRY_UPDATED, 1, "one", "ONE"));
+        expected.add(new MapEvent<>(cache, MapEvent.ENTRY_INSERTED, 3, null, "one"));
+
+        List<MapEvent<Integer, String>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch                  latch    = new CountDownLatch(3);
+
+        ObservableMapListener<Integer, String> listener =
+                ObservableMapListener.create(new InFilter<>(IdentityExtractor.INSTANCE, new HashSet<>(Arrays.asList("one", "ONE"))));
+        listener.subscribe(evt ->
+                           {
+                           received.add(evt);
+                           latch.countDown();
+                           });
+
+        listener.addTo(cache);
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.put(1, "ONE");
+        cache.put(2, "TWO");
+        cache.put(3, "one");
+
+        latch.await();
+        listener.removeFrom(cache);
+        cache.put(4, "one");
+        Thread.sleep(250);
+
+        assertEquals(expected.size(), received.size());
+        for (int i = 0; i < expected.size(); i++)
+            {
+            assertEvent(expected.get(i), received.get(i));
+            }
+        }
+
+    @Test
+    public void testLiteObservableMapListener() throws Exception
+        {
+        NamedCache<Integer, String> cache = getNamedCache("lite");
+
+        List<Integer>  received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch    = new CountDownLatch(4);
+
+        ObservableMapListener<Integer, String> listener = ObservableMapListener.create(null, true);
+        listener.keys().subscribe(key ->
+                                  {
+                                  received.add(key);
+                                  latch.countDown();
+                                  });
+
+        assertTrue(listener.isLite());
+        listener.addTo(cache);
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.put(1, "ONE");
+        cache.remove(2);
+
+        latch.await();
+        listener.removeFrom(cache);
+
+        assertEquals(Arrays.asList(1, 2, 1, 2), received);
+        }
+
+    @Test
+    public void testAsyncDispatchIsolatesSlowSubscribers() throws Exception
+        {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+            {
+            ObservableMapListener<Integer, String> listener = ObservableMapListener.create(null, false,
+                    ObservableMapListenerOptions.DEFAULT.withAsyncDispatch(executor));
+
+            CountDownLatch entered  = new CountDownLatch(1);
+            CountDownLatch release  = new CountDownLatch(1);
+            CountDownLatch fast     = new CountDownLatch(10);
+            List<Integer>  received = new CopyOnWriteArrayList<>();
+
+            listener.subscribe(evt ->
+                               {
+                               entered.countDown();
+                               await(release);
+                               });
+            listener.subscribe(evt ->
+                               {
+                               received.add(evt.getKey());
+                               fast.countDown();
+                               });
+
+            for (int i = 0; i < 10; i++)
+                {
+                listener.entryInserted(event(i));
+                }
+
+            assertTrue(fast.await(10, TimeUnit.SECONDS));
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received);
+            assertEquals(9, listener.getQueuedEventCount());
+
+            release.countDown();
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    @Test
+    public void testAsyncDispatchCompletesAfterQueuedEvents() throws Exception
+        {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+            {
+            CountDownLatch          entered    = new CountDownLatch(1);
+            CountDownLatch          release    = new CountDownLatch(1);
+            TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+            Subscriber<MapEvent<Integer, String>> child = new Subscriber<MapEvent<Integer, String>>()
+                {
+                @Override
+                public void onNext(MapEvent<Integer, String> evt)
+                    {
+                    entered.countDown();
+                    await(release);
+                    subscriber.onNext(evt.getKey());
+                    }
+
+                @Override
+                public void onCompleted()
+                    {
+                    subscriber.onCompleted();
+                    }
+
+                @Override
+                public void onError(Throwable e)
+                    {
+                    subscriber.onError(e);
+                    }
+                };
+
+            ObservableMapListenerOptions options = ObservableMapListenerOptions.DEFAULT.withAsyncDispatch(executor);
+            ObservableMapListener.QueuedSubscriber<Integer, String> queued =
+                    new ObservableMapListener.QueuedSubscriber<>(child, options, new LongAdder());
+
+            queued.onNext(event(0));
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+            queued.onNext(event(1));
+            queued.onNext(event(2));
+            queued.onCompleted();
+            subscriber.assertNotCompleted();
+
+            release.countDown();
+            subscriber.awaitTerminalEvent(10, TimeUnit.SECONDS);
+            subscriber.assertCompleted();
+            assertEquals(Arrays.asList(0, 1, 2), subscriber.getOnNextEvents());
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    @Test
+    public void testOverflowStrategies() throws Exception
+        {
+        assertOverflow(ObservableMapListenerOptions.OverflowStrategy.DROP_OLDEST, Arrays.asList(0, 2, 3), 1L);
+        assertOverflow(ObservableMapListenerOptions.OverflowStrategy.KEEP_LATEST, Arrays.asList(0, 3), 2L);
+        assertOverflow(ObservableMapListenerOptions.OverflowStrategy.ERROR, Collections.singletonList(0), 1L);
+
+        assertEquals(ObservableMapListenerOptions.OverflowStrategy.ERROR,
+                     ObservableMapListenerOptions.DEFAULT.getOverflowStrategy());
+        }
+
+    private void assertOverflow(ObservableMapListenerOptions.OverflowStrategy overflow,
+                                List<Integer> listExpected, long cDropped) throws Exception
+        {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+            {
+            ObservableMapListener<Integer, String> listener = ObservableMapListener.create(null, false,
+                    ObservableMapListenerOptions.DEFAULT.withAsyncDispatch(executor)
+                            .withQueueSize(2)
+                            .withOverflowStrategy(overflow));
+
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+            listener.map(MapEvent::getKey)
+                    .doOnNext(key ->
+                              {
+                              entered.countDown();
+                              await(release);
+                              })
+                    .subscribe(subscriber);
+
+            listener.entryInserted(event(0));
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+            for (int i = 1; i < 4; i++)
+                {
+                listener.entryInserted(event(i));
+                }
+
+            assertEquals(cDropped, listener.getDroppedEventCount());
+            release.countDown();
+
+            if (overflow == ObservableMapListenerOptions.OverflowStrategy.ERROR)
+                {
+                subscriber.awaitTerminalEvent(10, TimeUnit.SECONDS);
+                subscriber.assertError(MissingBackpressureException.class);
+                }
+            else
+                {
+                for (int i = 0; i < 100 && subscriber.getOnNextEvents().size() < listExpected.size(); i++)
+                    {
+                    Thread.sleep(50);
+                    }
+                }
+
+            assertEquals(listExpected, subscriber.getOnNextEvents());
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    @Test
+    public void testIndexedStreams()
+        {
+        ObservableMapListener<Integer, String> listener = ObservableMapListener.create();
+        ObservableHashMap<Integer, String>     map      = new ObservableHashMap<>();
+        ValueExtractor<String, Integer>        length   = String::length;
+
+        TestSubscriber<MapEvent<Integer, String>> key1    = new TestSubscriber<>();
+        TestSubscriber<MapEvent<Integer, String>> length3 = new TestSubscriber<>();
+        TestSubscriber<MapEvent<Integer, String>> length5 = new TestSubscriber<>();
+
+        listener.forKey(1).subscribe(key1);
+        listener.forAttribute(length, 3).subscribe(length3);
+        listener.forAttribute(length, 5).subscribe(length5);
+
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 1, null, "one"));
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 2, null, "two"));
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 3, null, "three"));
+        listener.entryUpdated(new MapEvent<>(map, MapEvent.ENTRY_UPDATED, 2, "two", "seven"));
+        listener.entryDeleted(new MapEvent<>(map, MapEvent.ENTRY_DELETED, 1, "one", null));
+
+        assertEquals(Arrays.asList(1, 1), keys(key1));
+        assertEquals(Arrays.asList(1, 2, 2, 1), keys(length3));
+        assertEquals(Arrays.asList(3, 2), keys(length5));
+
+        key1.unsubscribe();
+        assertTrue(listener.f_mapKeys.isEmpty());
+
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 1, null, "ONE"));
+        assertEquals(2, key1.getOnNextEvents().size());
+        assertEquals(5, length3.getOnNextEvents().size());
+
+        length3.unsubscribe();
+        assertEquals(1, listener.f_mapAttributes.size());
+        length5.unsubscribe();
+        assertTrue(listener.f_mapAttributes.isEmpty());
+        }
+
+    @Test
+    public void testBatches()
+        {
+        ObservableMapListener<Integer, String> listener  = ObservableMapListener.create();
+        TestScheduler                          scheduler = new TestScheduler();
+
+        TestSubscriber<List<MapEvent<Integer, String>>> subscriber = new TestSubscriber<>();
+        listener.batches(3, 100, TimeUnit.MILLISECONDS, scheduler).subscribe(subscriber);
+
+        for (int i = 0; i < 7; i++)
+            {
+            listener.entryInserted(event(i));
+            }
+
+        assertEquals(2, subscriber.getOnNextEvents().size());
+        assertEquals(3, subscriber.getOnNextEvents().get(1).size());
+        assertEquals(5, (int) subscriber.getOnNextEvents().get(1).get(2).getKey());
+
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        assertEquals(2, subscriber.getOnNextEvents().size());
+
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertEquals(3, subscriber.getOnNextEvents().size());
+        assertEquals(1, subscriber.getOnNextEvents().get(2).size());
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        assertEquals(3, subscriber.getOnNextEvents().size());
+
+        subscriber.unsubscribe();
+        listener.entryInserted(event(7));
+        assertEquals(3, subscriber.getOnNextEvents().size());
+        }
+
+    @Test
+    public void testBatchesHonorDemand()
+        {
+        ObservableMapListener<Integer, String> listener  = ObservableMapListener.create();
+        TestScheduler                          scheduler = new TestScheduler();
+
+        TestSubscriber<List<MapEvent<Integer, String>>> subscriber = new TestSubscriber<>(1L);
+        listener.batches(3, 100, TimeUnit.MILLISECONDS, scheduler).subscribe(subscriber);
+
+        for (int i = 0; i < 7; i++)
+            {
+            listener.entryInserted(event(i));
+            }
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        subscriber.assertNoErrors();
+        assertEquals(1, subscriber.getOnNextEvents().size());
+
+        subscriber.requestMore(1L);
+        assertEquals(2, subscriber.getOnNextEvents().size());
+        assertEquals(5, (int) subscriber.getOnNextEvents().get(1).get(2).getKey());
+
+        subscriber.requestMore(5L);
+        assertEquals(3, subscriber.getOnNextEvents().size());
+        assertEquals(6, (int) subscriber.getOnNextEvents().get(2).get(0).getKey());
+        subscriber.assertNoErrors();
+
+        subscriber.unsubscribe();
+        }
+
+    @Test
+    public void testConflated()
+        {
+        ObservableMapListener<Integer, String> listener = ObservableMapListener.create();
+        ObservableHashMap<Integer, String>     map      = new ObservableHashMap<>();
+
+        TestSubscriber<MapEvent<Integer, String>> subscriber = new TestSubscriber<>(0L);
+        listener.conflated().subscribe(subscriber);
+
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 1, null, "a"));
+        listener.entryInserted(new MapEvent<>(map, MapEvent.ENTRY_INSERTED, 2, null, "x"));
+        listener.entryUpdated(new MapEvent<>(map, MapEvent.ENTRY_UPDATED, 1, "a", "b"));
+        listener.entryUpdated(new MapEvent<>(map, MapEvent.ENTRY_UPDATED, 1, "b", "c"));
+        subscriber.assertNoValues();
+
+        subscriber.requestMore(1);
+        assertEquals(1, subscriber.getOnNextEvents().size());
+        assertEquals("c", subscriber.getOnNextEvents().get(0).getNewValue());
+
+        listener.entryUpdated(new MapEvent<>(map, MapEvent.ENTRY_UPDATED, 2, "x", "y"));
+        subscriber.requestMore(5);
+        assertEquals(2, subscriber.getOnNextEvents().size());
+        assertEquals("y", subscriber.getOnNextEvents().get(1).getNewValue());
+
+        listener.entryDeleted(new MapEvent<>(map, MapEvent.ENTRY_DELETED, 1, "c", null));
+        assertEquals(3, subscriber.getOnNextEvents().size());
+        assertEquals(MapEvent.ENTRY_DELETED, subscriber.getOnNextEvents().get(2).getId());
+        }
+
+    private static List<Integer> keys(TestSubscriber<MapEvent<Integer, String>> subscriber)
+        {
+        List<Integer> listKeys = new ArrayList<>();
+        for (MapEvent<Integer, String> evt : subscriber.getOnNextEvents())
+            {
+            listKeys.add(evt.getKey());
+            }
+
+        return listKeys;
+        }
+
+    private static MapEvent<Integer, String> event(int nKey)
+        {
+        return new MapEvent<>(new ObservableHashMap<>(), MapEvent.ENTRY_INSERTED, nKey, null, String.valueOf(nKey));
+        }
+
+    private static void await(CountDownLatch latch)
+        {
+        try
+            {
+            latch.await();
+            }
+        catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            }
+        }
+
     private void assertEvent(MapEvent<Integer, String> expected, MapEvent<Integer, String> actual)
         {
         assertEquals(expected.getId(), actual.getId());
@@ -0,0 +1,193 @@
+/*
+ * File: PagedOnSubscribeTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.Subscription;
+
+import rx.observers.TestSubscriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for PagedOnSubscribe class.
+ *
+ * @author agent  2026.10.16
+ */
+public class PagedOnSubscribeTest
+    {
+    @Test
+    public void testFetchesPagesOnDemand()
+        {
+        AtomicInteger           cFetches   = new AtomicInteger();
+        Observable<Integer>     observable = Observable.create(new PagedOnSubscribe<>(10, nPage ->
+                {
+                cFetches.incrementAndGet();
+                return CompletableFuture.completedFuture(page(nPage));
+                }));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(3L);
+
+        observable.subscribe(subscriber);
+        assertEquals(Arrays.asList(0, 1, 2), subscriber.getOnNextEvents());
+        assertEquals(1, cFetches.get());
+
+        subscriber.requestMore(10L);
+        assertEquals(13, subscriber.getOnNextEvents().size());
+        assertEquals(2, cFetches.get());
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertEquals(100, subscriber.getOnNextEvents().size());
+        assertEquals(10, cFetches.get());
+        }
+
+    @Test
+    public void testReadAhead()
+        {
+        List<CompletableFuture<Collection<Integer>>> listFutures = new ArrayList<>();
+        Observable<Integer>     observable = Observable.create(new PagedOnSubscribe<>(10, 2, nPage ->
+                {
+                CompletableFuture<Collection<Integer>> future = new CompletableFuture<>();
+                listFutures.add(future);
+                return future;
+                }));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(1L);
+
+        observable.subscribe(subscriber);
+        assertEquals(3, listFutures.size());
+
+        listFutures.get(0).complete(page(0));
+        assertEquals(1, subscriber.getOnNextEvents().size());
+        assertEquals(3, listFutures.size());
+
+        listFutures.get(1).complete(page(1));
+        subscriber.requestMore(10L);
+        assertEquals(11, subscriber.getOnNextEvents().size());
+        assertEquals(4, listFutures.size());
+        }
+
+    @Test
+    public void testUnsubscribeCancelsInFlightPages()
+        {
+        List<CompletableFuture<Collection<Integer>>> listFutures = new ArrayList<>();
+        Observable<Integer>     observable = Observable.create(new PagedOnSubscribe<>(10, 1, nPage ->
+                {
+                CompletableFuture<Collection<Integer>> future = new CompletableFuture<>();
+                listFutures.add(future);
+                return future;
+                }));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+        Subscription subscription = observable.subscribe(subscriber);
+        assertEquals(2, listFutures.size());
+
+        subscription.unsubscribe();
+        assertTrue(listFutures.get(0).isCancelled());
+        assertTrue(listFutures.get(1).isCancelled());
+
+        listFutures.get(0).complete(page(0));
+        assertEquals(2, listFutures.size());
+        assertTrue(subscriber.getOnNextEvents().isEmpty());
+        }
+
+    @Test
+    public void testTakeStopsFetching()
+        {
+        AtomicInteger           cFetches   = new AtomicInteger();
+        Observable<Integer>     observable = Observable.create(new PagedOnSubscribe<>(10, nPage ->
+                {
+                cFetches.incrementAndGet();
+                return CompletableFuture.completedFuture(page(nPage));
+                }));
+
+        assertEquals(15, (int) observable.take(15).count().toBlocking().single());
+        assertEquals(2, cFetches.get());
+        }
+
+    @Test
+    public void testError()
+        {
+        Observable<Integer>     observable = Observable.create(new PagedOnSubscribe<>(10, nPage ->
+                {
+                CompletableFuture<Collection<Integer>> future = new CompletableFuture<>();
+                if (nPage == 1)
+                    {
+                    future.completeExceptionally(new IllegalStateException());
+                    }
+                else
+                    {
+                    future.complete(page(nPage));
+                    }
+                return future;
+                }));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+        observable.subscribe(subscriber);
+        subscriber.assertError(IllegalStateException.class);
+        assertEquals(10, subscriber.getOnNextEvents().size());
+        }
+
+    @Test(timeout = 10000L)
+    public void testFetchThrows()
+        {
+        Observable<Integer> observable = Observable.create(new PagedOnSubscribe<>(10, nPage ->
+                {
+                if (nPage == 1)
+                    {
+                    throw new IllegalStateException();
+                    }
+                return CompletableFuture.completedFuture(page(nPage));
+                }));
+
+        try
+            {
+            observable.toList().toBlocking().single();
+            fail("should have thrown IllegalStateException");
+            }
+        catch (IllegalStateException e)
+            {
+            // expected
+            }
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static Collection<Integer> page(int nPage)
+        {
+        List<Integer> list = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++)
+            {
+            list.add(nPage * 10 + i);
+            }
+        return list;
+        }
+    }
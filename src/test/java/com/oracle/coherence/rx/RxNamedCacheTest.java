@@ -29,12 +29,18 @@ import com.oracle.bedrock.runtime.java.options.SystemProperty;
 import com.tangosol.net.ConfigurableCacheFactory;
 import com.tangosol.net.NamedCache;
 
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.NearCache;
+
 import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
 import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.aggregator.Count;
 import com.tangosol.util.aggregator.LongSum;
 
 import com.tangosol.util.extractor.IdentityExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
 
 import com.tangosol.util.filter.AlwaysFilter;
 import com.tangosol.util.filter.GreaterFilter;
@@ -42,10 +48,33 @@ import com.tangosol.util.filter.GreaterFilter;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import rx.Observable;
+import rx.Subscription;
+
+import rx.exceptions.MissingBackpressureException;
+
+import rx.observers.TestSubscriber;
+
+import rx.schedulers.Schedulers;
+import rx.schedulers.TestScheduler;
+
+import java.io.Serializable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.stream.Collectors;
+
 import static com.oracle.coherence.rx.RxNamedCache.rx;
 
 import static org.junit.Assert.*;
@@ -138,6 +167,41 @@ public class RxNamedCacheTest
         assertEquals("three", cache.get(3));
         }
 
+    @Test
+    public void testChunkedPutAll()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        Map<Integer, Integer>        map   = new HashMap<>();
+
+        for (int i = 0; i < 1000; i++)
+            {
+            map.put(i, i);
+            }
+
+        List<Integer> listProgress = rx(cache).putAll(map, 100, 4).toList().toBlocking().single();
+
+        assertEquals(1000, listProgress.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(listProgress.size() >= 10);
+        assertTrue(listProgress.stream().allMatch(c -> c > 0 && c <= 100));
+        assertEquals(map, cache.getAll(map.keySet()));
+        }
+
+    @Test
+    public void testStreamingPutAll()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+
+        Observable<Map.Entry<Integer, Integer>> entries =
+                Observable.range(0, 1000).map(i -> new AbstractMap.SimpleEntry<>(i, i));
+
+        List<Integer> listProgress = rx(cache).putAll(entries, 100, 10, TimeUnit.MILLISECONDS, 4)
+                .toList().toBlocking().single();
+
+        assertEquals(1000, listProgress.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(1000, cache.size());
+        assertEquals(999, (int) cache.get(999));
+        }
+
     @Test
     public void testRemove()
         {
@@ -335,6 +399,433 @@ public class RxNamedCacheTest
                              .single());
         }
 
+    // ---- streaming -------------------------------------------------------
+
+    @Test
+    public void testStreamingEntrySet()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        List<Integer>                list  = populate(cache, 100);
+
+        RxNamedCache<Integer, Integer> rxCache = rx(cache, RxNamedCacheOptions.DEFAULT.withStreaming(10));
+
+        assertEquals(list, rxCache.values().toSortedList().toBlocking().single());
+        assertEquals(list, rxCache.keySet().toSortedList().toBlocking().single());
+        assertEquals(5, (int) rxCache.entrySet().take(5).count().toBlocking().single());
+        }
+
+    @Test
+    public void testPagedScanWithReadAhead()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        List<Integer>                list  = populate(cache, 1000);
+
+        RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT
+                .withStreaming(100)
+                .withPageSize(16)
+                .withReadAhead(2);
+        RxNamedCache<Integer, Integer> rxCache = rx(cache, options);
+
+        assertEquals(list, rxCache.values(AlwaysFilter.INSTANCE).toSortedList().toBlocking().single());
+        assertEquals(list.subList(2, 1000),
+                     rxCache.entrySet(GREATER_THAN_1)
+                             .map(Map.Entry::getKey)
+                             .toSortedList()
+                             .toBlocking()
+                             .single());
+        }
+
+    @Test
+    public void testStreamingInvokeAllWithKeySet()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        List<Integer>                list  = populate(cache, 25);
+
+        RxNamedCache<Integer, Integer> rxCache = rx(cache, RxNamedCacheOptions.DEFAULT.withStreaming(10));
+
+        assertEquals(list,
+                     rxCache.invokeAll(list, entry -> entry.getValue())
+                             .map(Map.Entry::getValue)
+                             .toSortedList()
+                             .toBlocking()
+                             .single());
+        }
+
+    @Test
+    public void testKeyStreamOperations()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        List<Integer>                list  = populate(cache, 100);
+
+        RxNamedCache<Integer, Integer> rxCache = rx(cache);
+
+        assertEquals(list,
+                     rxCache.getAll(Observable.range(0, 110), 16, 4)
+                             .map(Map.Entry::getKey)
+                             .toSortedList()
+                             .toBlocking()
+                             .single());
+
+        assertEquals(Arrays.asList(0, 1, 4, 9),
+                     rxCache.invokeAll(Observable.range(0, 4), square(), 2, 2)
+                             .map(Map.Entry::getValue)
+                             .toSortedList()
+                             .toBlocking()
+                             .single());
+
+        rxCache.removeAll(Observable.range(0, 50), 16, 4).toBlocking().lastOrDefault(null);
+        assertEquals(50, cache.size());
+        assertFalse(cache.containsKey(49));
+        assertTrue(cache.containsKey(50));
+        }
+
+    @Test
+    public void testStreamingBackpressure() throws Exception
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        populate(cache, 100);
+
+        RxNamedCache<Integer, Integer> rxCache    = rx(cache, RxNamedCacheOptions.DEFAULT.withStreaming(10));
+        TestSubscriber<Integer>        subscriber = new TestSubscriber<>(5L);
+
+        rxCache.values().subscribe(subscriber);
+
+        for (int i = 0; i < 100 && subscriber.getOnNextEvents().size() < 5; i++)
+            {
+            Thread.sleep(50);
+            }
+
+        Thread.sleep(250);
+        assertEquals(5, subscriber.getOnNextEvents().size());
+        subscriber.assertNotCompleted();
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.awaitTerminalEvent();
+        subscriber.assertNoErrors();
+        assertEquals(100, subscriber.getOnNextEvents().size());
+        }
+
+    @Test
+    public void testUnsubscribeCancelsCacheRequests()
+        {
+        NamedCache<Integer, Integer>                   cache       = getNamedCache();
+        RxNamedCacheImpl<Integer, Integer>             rxCache     = new RxNamedCacheImpl<>(cache,
+                RxNamedCacheOptions.DEFAULT.withStreaming(10).withReadAhead(1));
+        List<CompletableFuture<Map<Integer, Integer>>> listFutures = new ArrayList<>();
+
+        Subscription subscription = rxCache.<Integer>pageByKeys(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11),
+                colPage ->
+                    {
+                    CompletableFuture<Map<Integer, Integer>> future = new CompletableFuture<>();
+                    listFutures.add(future);
+                    return future;
+                    })
+                .subscribe(new TestSubscriber<>());
+
+        subscription.unsubscribe();
+        assertEquals(2, listFutures.size());
+        assertTrue(listFutures.get(0).isCancelled());
+        assertTrue(listFutures.get(1).isCancelled());
+
+        listFutures.clear();
+        subscription = rxCache.<Integer>pageByPartitions(AlwaysFilter.INSTANCE,
+                filterPage ->
+                    {
+                    CompletableFuture<Map<Integer, Integer>> future = new CompletableFuture<>();
+                    listFutures.add(future);
+                    return future;
+                    })
+                .subscribe(new TestSubscriber<>());
+
+        subscription.unsubscribe();
+        assertFalse(listFutures.isEmpty());
+        assertTrue(listFutures.stream().allMatch(CompletableFuture::isCancelled));
+        }
+
+    // ---- front map reads -------------------------------------------------
+
+    @Test
+    public void testFrontMapReads()
+        {
+        NamedCache<Integer, String> back = getNamedCache();
+        NearCache<Integer, String>  near = new NearCache<>(new LocalCache(), back);
+
+        back.put(1, "back");
+        back.put(2, "back");
+        near.getFrontMap().put(1, "front");
+
+        RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT.withFrontMapReads(true);
+
+        assertEquals("front", rx(near, options).get(1).toBlocking().single());
+        assertEquals("back", rx(near, options).get(2).toBlocking().single());
+        assertNull(rx(near, options).get(3).toBlocking().single());
+
+        assertEquals("back", rx(near).get(1).toBlocking().single());
+        }
+
+    // ---- lock-free reads -------------------------------------------------
+
+    @Test
+    public void testLockFreeReads()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        List<Integer>                list  = populate(cache, 50);
+
+        RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT.withLockFreeReads(true);
+
+        for (RxNamedCache<Integer, Integer> rxCache
+                : Arrays.asList(rx(cache, options), rx(cache, options.withStreaming(10).withPageSize(8))))
+            {
+            assertEquals(list, rxCache.keySet().toSortedList().toBlocking().single());
+            assertEquals(list, rxCache.values().toSortedList().toBlocking().single());
+            assertEquals(list.subList(2, 50),
+                         rxCache.entrySet(GREATER_THAN_1)
+                                 .map(Map.Entry::getValue)
+                                 .toSortedList()
+                                 .toBlocking()
+                                 .single());
+            assertEquals(Arrays.asList(1, 2),
+                         rxCache.getAll(Arrays.asList(1, 2, 500))
+                                 .map(Map.Entry::getValue)
+                                 .toSortedList()
+                                 .toBlocking()
+                                 .single());
+            }
+        }
+
+    // ---- continuous queries ----------------------------------------------
+
+    @Test
+    public void testContinuousQuery() throws Exception
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+        populate(cache, 10);
+
+        TestSubscriber<MapEvent<Integer, Integer>> subscriber = new TestSubscriber<>();
+        TestSubscriber<MapEvent<Integer, String>>  projected  = new TestSubscriber<>();
+
+        rx(cache).continuousQuery(GREATER_THAN_1).subscribe(subscriber);
+        rx(cache).continuousQuery(GREATER_THAN_1, new ReflectionExtractor<Integer, String>("toString"))
+                .subscribe(projected);
+
+        awaitEvents(subscriber, 8);
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9),
+                     subscriber.getOnNextEvents().stream()
+                             .peek(evt -> assertEquals(MapEvent.ENTRY_INSERTED, evt.getId()))
+                             .map(MapEvent::getKey)
+                             .sorted()
+                             .collect(Collectors.toList()));
+
+        cache.put(0, 0);
+        cache.put(20, 20);
+        cache.put(5, 50);
+        cache.remove(3);
+
+        awaitEvents(subscriber, 11);
+        awaitEvents(projected, 11);
+        subscriber.assertNoErrors();
+        subscriber.assertNotCompleted();
+
+        List<MapEvent<Integer, Integer>> listChanges = subscriber.getOnNextEvents().subList(8, 11);
+        assertEquals(MapEvent.ENTRY_INSERTED, listChanges.get(0).getId());
+        assertEquals(20, (int) listChanges.get(0).getKey());
+        assertEquals(MapEvent.ENTRY_UPDATED, listChanges.get(1).getId());
+        assertEquals(50, (int) listChanges.get(1).getNewValue());
+        assertEquals(MapEvent.ENTRY_DELETED, listChanges.get(2).getId());
+        assertEquals(3, (int) listChanges.get(2).getKey());
+
+        assertEquals("50", projected.getOnNextEvents().get(9).getNewValue());
+
+        subscriber.unsubscribe();
+        projected.unsubscribe();
+        }
+
+    @Test
+    public void testContinuousQueryWithScheduler() throws Exception
+        {
+        NamedCache<Integer, Integer> cache    = getNamedCache();
+        ExecutorService              executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "rx-delivery"));
+
+        populate(cache, 1000);
+
+        try
+            {
+            RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT
+                    .withScheduler(Schedulers.from(executor))
+                    .withBufferSize(100);
+
+            TestSubscriber<MapEvent<Integer, Integer>> subscriber = new TestSubscriber<>();
+
+            // the initial population is larger than both the observeOn ring
+            // buffer and the configured buffer size, and arrives in one burst
+            rx(cache, options).continuousQuery(AlwaysFilter.INSTANCE).subscribe(subscriber);
+
+            awaitEvents(subscriber, 1000);
+            subscriber.assertNoErrors();
+
+            cache.put(1000, 1000);
+
+            awaitEvents(subscriber, 1001);
+            subscriber.assertNoErrors();
+            subscriber.unsubscribe();
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    // ---- windowed aggregation --------------------------------------------
+
+    @Test
+    public void testWindow() throws Exception
+        {
+        NamedCache<Integer, Long> cache = getNamedCache();
+        for (int i = 0; i < 10; i++)
+            {
+            cache.put(i, i * 100L);
+            }
+
+        TestScheduler                      scheduler  = new TestScheduler();
+        TestSubscriber<Map<Long, Integer>> subscriber = new TestSubscriber<>();
+        ValueExtractor<Long, Long>         bucket     = (ValueExtractor<Long, Long> & Serializable) n -> n / 500;
+        ValueExtractor<Long, Long>         timestamp  = IdentityExtractor.INSTANCE;
+
+        rx(cache).window(null, bucket, timestamp, new Count<>(), 1000, 1000, TimeUnit.MILLISECONDS, scheduler)
+                .subscribe(subscriber);
+
+        scheduler.triggerActions();
+        awaitEvents(subscriber, 1);
+        assertEquals(Collections.singletonMap(0L, 1), subscriber.getOnNextEvents().get(0));
+
+        scheduler.advanceTimeBy(1000, TimeUnit.MILLISECONDS);
+        awaitEvents(subscriber, 2);
+
+        Map<Long, Integer> mapExpected = new HashMap<>();
+        mapExpected.put(0L, 4);
+        mapExpected.put(1L, 5);
+        assertEquals(mapExpected, subscriber.getOnNextEvents().get(1));
+
+        subscriber.unsubscribe();
+        }
+
+    @Test
+    public void testWindowClock() throws Exception
+        {
+        NamedCache<Integer, Long> cache = getNamedCache();
+        for (int i = 0; i < 10; i++)
+            {
+            cache.put(i, i * 100L);
+            }
+
+        TestScheduler              scheduler = new TestScheduler();
+        ValueExtractor<Long, Long> bucket    = (ValueExtractor<Long, Long> & Serializable) n -> n / 500;
+        ValueExtractor<Long, Long> timestamp = IdentityExtractor.INSTANCE;
+
+        // a client clock that runs more than a window ahead of the writers
+        // sees none of the entries written within the last window
+        TestSubscriber<Map<Long, Integer>> ahead = new TestSubscriber<>();
+        rx(cache).window(null, bucket, timestamp, new Count<>(), 1000, 1000, TimeUnit.MILLISECONDS, scheduler,
+                         () -> scheduler.now() + 2000L)
+                .subscribe(ahead);
+
+        // a clock that matches the writers sees all of them
+        TestSubscriber<Map<Long, Integer>> matching = new TestSubscriber<>();
+        rx(cache).window(null, bucket, timestamp, new Count<>(), 1000, 1000, TimeUnit.MILLISECONDS, scheduler,
+                         () -> scheduler.now() + 900L)
+                .subscribe(matching);
+
+        scheduler.triggerActions();
+        awaitEvents(ahead, 1);
+        awaitEvents(matching, 1);
+
+        assertEquals(Collections.emptyMap(), ahead.getOnNextEvents().get(0));
+
+        Map<Long, Integer> mapExpected = new HashMap<>();
+        mapExpected.put(0L, 5);
+        mapExpected.put(1L, 5);
+        assertEquals(mapExpected, matching.getOnNextEvents().get(0));
+
+        ahead.unsubscribe();
+        matching.unsubscribe();
+        }
+
+    // ---- delivery scheduler ----------------------------------------------
+
+    @Test
+    public void testDeliveryScheduler()
+        {
+        NamedCache<Integer, Integer> cache    = getNamedCache();
+        ExecutorService              executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "rx-delivery"));
+
+        populate(cache, 100);
+
+        try
+            {
+            CallbackStatistics  stats   = new CallbackStatistics();
+            RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT
+                    .withScheduler(Schedulers.from(executor))
+                    .withCallbackStatistics(stats);
+
+            assertEquals(Collections.singletonList("rx-delivery"),
+                         rx(cache, options).values()
+                                 .map(value -> Thread.currentThread().getName())
+                                 .distinct()
+                                 .toList()
+                                 .toBlocking()
+                                 .single());
+            assertTrue(stats.getCallbackCount() >= 100);
+
+            assertEquals(Collections.singletonList("rx-delivery"),
+                         rx(cache, options.withStreaming(10)).keySet()
+                                 .map(key -> Thread.currentThread().getName())
+                                 .distinct()
+                                 .toList()
+                                 .toBlocking()
+                                 .single());
+
+            assertEquals(5, (int) rx(cache, executor).get(5).toBlocking().single());
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    @Test
+    public void testDeliverySchedulerBuffersLargeResults() throws Exception
+        {
+        NamedCache<Integer, Integer> cache    = getNamedCache();
+        ExecutorService              executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "rx-delivery"));
+
+        // more results than the observeOn queue and the old default limit
+        populate(cache, 10000);
+
+        try
+            {
+            RxNamedCacheOptions     options    = RxNamedCacheOptions.DEFAULT.withScheduler(Schedulers.from(executor));
+            TestSubscriber<Integer> subscriber = new TestSubscriber<>(0L);
+
+            rx(cache, options).values().subscribe(subscriber);
+            Thread.sleep(500);
+
+            subscriber.requestMore(Long.MAX_VALUE);
+            subscriber.awaitTerminalEvent(30, TimeUnit.SECONDS);
+            subscriber.assertNoErrors();
+            assertEquals(10000, subscriber.getOnNextEvents().size());
+
+            TestSubscriber<Integer> bounded = new TestSubscriber<>(0L);
+
+            rx(cache, options.withBufferSize(100)).values().subscribe(bounded);
+            bounded.awaitTerminalEvent(30, TimeUnit.SECONDS);
+            bounded.assertError(MissingBackpressureException.class);
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
     // ---- Map methods -----------------------------------------------------
 
     @Test
@@ -539,10 +1030,54 @@ public class RxNamedCacheTest
         assertEquals(9, (int) cache.get("3"));
         }
 
+    @Test
+    public void testBlindProcessors() throws Exception
+        {
+        NamedCache<String, Integer> cache = getNamedCache();
+        Map<String, Integer>        map   = new HashMap<>();
+
+        map.put("1", 1);
+        map.put("2", 2);
+        map.put("3", 3);
+
+        assertTrue(cache.invokeAll(map.keySet(), BlindProcessors.putAll(map)).isEmpty());
+        assertEquals(map, cache.getAll(map.keySet()));
+
+        assertTrue(cache.invokeAll(map.keySet(), BlindProcessors.<String, Integer>replace((k, v) -> v * v)).isEmpty());
+        assertEquals(1, (int) cache.get("1"));
+        assertEquals(4, (int) cache.get("2"));
+        assertEquals(9, (int) cache.get("3"));
+        }
+
     // ---- helpers ---------------------------------------------------------
 
     public static InvocableMap.EntryProcessor<Integer, Integer, Integer> square()
         {
         return entry -> entry.getValue() * entry.getValue();
         }
+
+    public static void awaitEvents(TestSubscriber<?> subscriber, int cEvents) throws InterruptedException
+        {
+        for (int i = 0; i < 100 && subscriber.getOnNextEvents().size() < cEvents; i++)
+            {
+            Thread.sleep(50);
+            }
+        assertEquals(cEvents, subscriber.getOnNextEvents().size());
+        }
+
+    public static List<Integer> populate(NamedCache<Integer, Integer> cache, int cEntries)
+        {
+        Map<Integer, Integer> map  = new HashMap<>();
+        List<Integer>         list = new ArrayList<>();
+
+        for (int i = 0; i < cEntries; i++)
+            {
+            map.put(i, i);
+            list.add(i);
+            }
+
+        cache.putAll(map);
+
+        return list;
+        }
     }
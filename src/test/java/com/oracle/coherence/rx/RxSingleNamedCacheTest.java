@@ -0,0 +1,210 @@
+/*
+ * File: RxSingleNamedCacheTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import com.oracle.bedrock.junit.CoherenceClusterOrchestration;
+import com.oracle.bedrock.junit.SessionBuilder;
+import com.oracle.bedrock.junit.SessionBuilders;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.aggregator.LongSum;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.GreaterFilter;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import rx.schedulers.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.oracle.coherence.rx.RxSingleNamedCache.rxSingle;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for RxSingleNamedCacheImpl class.
+ *
+ * @author agent  2026.10.16
+ */
+@SuppressWarnings("unchecked")
+public class RxSingleNamedCacheTest
+    {
+    @ClassRule
+    public static final CoherenceClusterOrchestration ORCHESTRATION =
+            new CoherenceClusterOrchestration()
+                    .withOptions(
+                            SystemProperty.of("coherence.nameservice.address",
+                                              LocalPlatform.get().getLoopbackAddress().getHostAddress())
+                    );
+
+    protected static final SessionBuilder MEMBER = SessionBuilders.storageDisabledMember();
+
+    protected static final GreaterFilter GREATER_THAN_1 = new GreaterFilter<>(IdentityExtractor.INSTANCE, 1);
+
+    protected <K, V> NamedCache<K, V> getNamedCache()
+        {
+        ConfigurableCacheFactory cacheFactory = ORCHESTRATION.getSessionFor(MEMBER);
+        NamedCache               cache        = cacheFactory.ensureCache("test", null);
+
+        cache.clear();
+
+        return cache;
+        }
+
+    @Test
+    public void testGet()
+        {
+        NamedCache<Integer, String> cache = getNamedCache();
+
+        cache.put(1, "one");
+
+        assertEquals("one", rxSingle(cache).get(1).toBlocking().value());
+        assertNull(rxSingle(cache).get(2).toBlocking().value());
+        }
+
+    @Test
+    public void testPutAndRemove()
+        {
+        NamedCache<Integer, String> cache = getNamedCache();
+
+        assertNull(rxSingle(cache).put(1, "one").get());
+        assertEquals("one", cache.get(1));
+
+        assertEquals("one", rxSingle(cache).remove(1).toBlocking().value());
+        assertFalse(cache.containsKey(1));
+        }
+
+    @Test
+    public void testPutAll()
+        {
+        NamedCache<Integer, String> cache = getNamedCache();
+        Map<Integer, String>        map   = new HashMap<>();
+
+        map.put(1, "one");
+        map.put(2, "two");
+        map.put(3, "three");
+
+        assertNull(rxSingle(cache).putAll(map).get());
+        assertEquals(map, cache.getAll(map.keySet()));
+        }
+
+    @Test
+    public void testDeliveryScheduler()
+        {
+        NamedCache<Integer, String> cache    = getNamedCache();
+        ExecutorService             executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "rx-delivery"));
+
+        try
+            {
+            CallbackStatistics  stats   = new CallbackStatistics();
+            RxNamedCacheOptions options = RxNamedCacheOptions.DEFAULT
+                    .withScheduler(Schedulers.from(executor))
+                    .withCallbackStatistics(stats);
+
+            List<String> listThreads = new ArrayList<>();
+
+            assertNull(rxSingle(cache.async(), options).putAll(Collections.singletonMap(1, "one"))
+                               .doOnCompleted(() -> listThreads.add(Thread.currentThread().getName()))
+                               .get());
+            assertEquals(1, stats.getCallbackCount());
+
+            assertEquals("one", rxSingle(cache.async(), options).get(1)
+                               .doOnSuccess(value -> listThreads.add(Thread.currentThread().getName()))
+                               .toBlocking().value());
+
+            assertEquals(Arrays.asList("rx-delivery", "rx-delivery"), listThreads);
+            }
+        finally
+            {
+            executor.shutdown();
+            }
+        }
+
+    @Test
+    public void testRemoveAll()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+
+        RxNamedCacheTest.populate(cache, 5);
+
+        assertNull(rxSingle(cache).removeAll(Arrays.asList(0, 1)).get());
+        assertEquals(3, cache.size());
+
+        assertNull(rxSingle(cache).removeAll(GREATER_THAN_1).get());
+        assertEquals(0, cache.size());
+        }
+
+    @Test
+    public void testSizeContainsClearIsEmpty()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+
+        RxNamedCacheTest.populate(cache, 5);
+
+        assertEquals(5, (int) rxSingle(cache).size().toBlocking().value());
+        assertFalse(rxSingle(cache).isEmpty().toBlocking().value());
+        assertTrue(rxSingle(cache).containsKey(1).toBlocking().value());
+
+        assertNull(rxSingle(cache).clear().get());
+        assertTrue(rxSingle(cache).isEmpty().toBlocking().value());
+        assertFalse(rxSingle(cache).containsKey(1).toBlocking().value());
+        }
+
+    @Test
+    public void testAggregate()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+
+        RxNamedCacheTest.populate(cache, 5);
+
+        assertEquals(10L, (long) rxSingle(cache).aggregate(new LongSum<>(IdentityExtractor.INSTANCE))
+                .toBlocking().value());
+        }
+
+    @Test
+    public void testReplaceAll()
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache();
+
+        RxNamedCacheTest.populate(cache, 3);
+
+        assertNull(rxSingle(cache).replaceAll((k, v) -> v * v).get());
+        assertEquals(0, (int) cache.get(0));
+        assertEquals(1, (int) cache.get(1));
+        assertEquals(4, (int) cache.get(2));
+        }
+    }
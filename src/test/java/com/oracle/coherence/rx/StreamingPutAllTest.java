@@ -0,0 +1,198 @@
+/*
+ * File: StreamingPutAllTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import org.junit.Test;
+
+import rx.Observable;
+
+import rx.observers.TestSubscriber;
+
+import rx.schedulers.TestScheduler;
+
+import rx.subjects.PublishSubject;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for StreamingPutAll class.
+ *
+ * @author agent  2026.10.16
+ */
+public class StreamingPutAllTest
+    {
+    @Test
+    public void testBatchesBySize()
+        {
+        List<Map<Integer, Integer>> listWrites = new ArrayList<>();
+        TestSubscriber<Integer>     subscriber = new TestSubscriber<>();
+
+        entries(25).lift(new StreamingPutAll<Integer, Integer>(map ->
+                {
+                listWrites.add(map);
+                return Observable.empty();
+                }, 10, 1, TimeUnit.HOURS, 2, new TestScheduler()))
+                .subscribe(subscriber);
+
+        subscriber.assertCompleted();
+        assertEquals(Arrays.asList(10, 10, 5), subscriber.getOnNextEvents());
+        assertEquals(3, listWrites.size());
+        assertEquals(Integer.valueOf(24), listWrites.get(2).get(24));
+        }
+
+    @Test
+    public void testFlushesPartialBatchAfterWindow()
+        {
+        List<Map<Integer, Integer>>                 listWrites = new ArrayList<>();
+        TestScheduler                               scheduler  = new TestScheduler();
+        PublishSubject<Map.Entry<Integer, Integer>> subject    = PublishSubject.create();
+        TestSubscriber<Integer>                     subscriber = new TestSubscriber<>();
+
+        subject.lift(new StreamingPutAll<Integer, Integer>(map ->
+                {
+                listWrites.add(map);
+                return Observable.empty();
+                }, 10, 50, TimeUnit.MILLISECONDS, 2, scheduler))
+                .subscribe(subscriber);
+
+        subject.onNext(entry(1));
+        subject.onNext(entry(2));
+        subject.onNext(entry(3));
+        assertTrue(listWrites.isEmpty());
+
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        assertEquals(1, listWrites.size());
+        assertEquals(Arrays.asList(3), subscriber.getOnNextEvents());
+
+        subject.onNext(entry(4));
+        subject.onCompleted();
+        assertEquals(2, listWrites.size());
+        subscriber.assertCompleted();
+        assertEquals(Arrays.asList(3, 1), subscriber.getOnNextEvents());
+        }
+
+    @Test
+    public void testBackpressure()
+        {
+        List<PublishSubject<Void>> listWrites = new ArrayList<>();
+        AtomicLong                 cRequested = new AtomicLong();
+        TestSubscriber<Integer>    subscriber = new TestSubscriber<>();
+
+        entries(1000).doOnRequest(cRequested::addAndGet)
+                .lift(new StreamingPutAll<Integer, Integer>(map ->
+                        {
+                        PublishSubject<Void> write = PublishSubject.create();
+                        listWrites.add(write);
+                        return write;
+                        }, 10, 1, TimeUnit.HOURS, 2, new TestScheduler()))
+                .subscribe(subscriber);
+
+        assertEquals(20L, cRequested.get());
+        assertEquals(2, listWrites.size());
+
+        listWrites.get(0).onCompleted();
+        assertEquals(30L, cRequested.get());
+        assertEquals(3, listWrites.size());
+        assertEquals(Arrays.asList(10), subscriber.getOnNextEvents());
+        subscriber.assertNotCompleted();
+        }
+
+    @Test
+    public void testTimerFlushesRespectMaxInFlight()
+        {
+        List<PublishSubject<Void>>                  listWrites = new ArrayList<>();
+        List<Map<Integer, Integer>>                 listMaps   = new ArrayList<>();
+        AtomicInteger                               cInFlight  = new AtomicInteger();
+        AtomicInteger                               cMax       = new AtomicInteger();
+        TestScheduler                               scheduler  = new TestScheduler();
+        PublishSubject<Map.Entry<Integer, Integer>> subject    = PublishSubject.create();
+        TestSubscriber<Integer>                     subscriber = new TestSubscriber<>();
+
+        subject.lift(new StreamingPutAll<Integer, Integer>(map ->
+                {
+                PublishSubject<Void> write = PublishSubject.create();
+                listWrites.add(write);
+                listMaps.add(map);
+                cMax.accumulateAndGet(cInFlight.incrementAndGet(), Math::max);
+                return write.doOnCompleted(cInFlight::decrementAndGet);
+                }, 10, 10, TimeUnit.MILLISECONDS, 2, scheduler))
+                .subscribe(subscriber);
+
+        // a slow source: every entry arrives after the window has elapsed
+        for (int i = 0; i < 5; i++)
+            {
+            subject.onNext(entry(i));
+            scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+            }
+
+        assertEquals(2, listWrites.size());
+        assertEquals(2, cMax.get());
+
+        listWrites.get(0).onCompleted();
+        assertEquals(3, listWrites.size());
+        assertEquals(3, listMaps.get(2).size());
+
+        subject.onCompleted();
+        listWrites.get(1).onCompleted();
+        listWrites.get(2).onCompleted();
+
+        subscriber.assertCompleted();
+        assertEquals(Arrays.asList(1, 1, 3), subscriber.getOnNextEvents());
+        assertEquals(2, cMax.get());
+        }
+
+    @Test
+    public void testWriteFailure()
+        {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+        entries(25).lift(new StreamingPutAll<Integer, Integer>(map ->
+                Observable.error(new IllegalStateException("expected")),
+                10, 1, TimeUnit.HOURS, 2, new TestScheduler()))
+                .subscribe(subscriber);
+
+        subscriber.assertError(IllegalStateException.class);
+        subscriber.assertNoValues();
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    protected static Observable<Map.Entry<Integer, Integer>> entries(int cEntries)
+        {
+        return Observable.range(0, cEntries).map(StreamingPutAllTest::entry);
+        }
+
+    protected static Map.Entry<Integer, Integer> entry(int n)
+        {
+        return new AbstractMap.SimpleEntry<>(n, n);
+        }
+    }
@@ -0,0 +1,163 @@
+/*
+ * File: SubscriberRegistryTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.rx;
+
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for SubscriberRegistry class.
+ *
+ * @author agent  2026.10.16
+ */
+public class SubscriberRegistryTest
+    {
+    @Test
+    public void testRegisterAndUnregister()
+        {
+        SubscriberRegistry<String> registry = new SubscriberRegistry<>();
+
+        int nA = registry.register("a");
+        int nB = registry.register("b");
+        int nC = registry.register("c");
+
+        assertEquals(3, registry.size());
+        assertEquals(Arrays.asList("a", "b", "c"), collect(registry));
+
+        assertTrue(registry.unregister(nB, "b"));
+        assertFalse(registry.unregister(nB, "b"));
+        assertFalse(registry.unregister(nA, "c"));
+
+        assertEquals(2, registry.size());
+        assertEquals(Arrays.asList("a", "c"), collect(registry));
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(registry));
+
+        assertEquals(nB, registry.register("d"));
+        assertEquals(Arrays.asList("a", "d", "c"), collect(registry));
+        assertTrue(registry.unregister(nC, "c"));
+        }
+
+    @Test
+    public void testGrowsAndReusesSlots()
+        {
+        SubscriberRegistry<Integer> registry = new SubscriberRegistry<>();
+        int[]                       anSlots  = new int[100];
+
+        for (int i = 0; i < 100; i++)
+            {
+            anSlots[i] = registry.register(i);
+            }
+        assertEquals(100, registry.size());
+
+        for (int i = 0; i < 100; i += 2)
+            {
+            assertTrue(registry.unregister(anSlots[i], i));
+            }
+        assertEquals(50, registry.size());
+
+        int cHighWater = registry.m_cHighWater;
+        for (int i = 0; i < 50; i++)
+            {
+            registry.register(1000 + i);
+            }
+        assertEquals(100, registry.size());
+        assertEquals(cHighWater, registry.m_cHighWater);
+        }
+
+    @Test
+    public void testCompactsWhenSparse()
+        {
+        SubscriberRegistry<String> registry = new SubscriberRegistry<>();
+        String[]                   asValues = new String[1000];
+        int[]                      anSlots  = new int[1000];
+
+        for (int i = 0; i < 1000; i++)
+            {
+            asValues[i] = String.valueOf(i);
+            anSlots[i]  = registry.register(asValues[i]);
+            }
+        assertEquals(1024, registry.m_aSlots.length());
+
+        // an iteration that is in progress keeps scanning the old array
+        Iterator<String> iter = registry.iterator();
+        assertEquals("0", iter.next());
+
+        for (int i = 0; i < 1000; i++)
+            {
+            if (i % 100 != 0)
+                {
+                assertTrue(registry.unregister(anSlots[i], asValues[i]));
+                }
+            }
+
+        assertEquals(10, registry.size());
+        assertEquals(32, registry.m_aSlots.length());
+        assertEquals(Arrays.asList("0", "100", "200", "300", "400", "500", "600", "700", "800", "900"),
+                     collect(registry));
+
+        int cVisited = 1;
+        while (iter.hasNext())
+            {
+            iter.next();
+            cVisited++;
+            }
+        assertTrue(cVisited >= 10);
+
+        assertFalse(registry.unregister(anSlots[100], asValues[200]));
+        assertTrue(registry.unregister(anSlots[100], asValues[100]));
+        assertEquals(anSlots[100], registry.register("1000"));
+        assertEquals(Arrays.asList("0", "1000", "200", "300", "400", "500", "600", "700", "800", "900"),
+                     collect(registry));
+
+        for (int i = 200; i < 1000; i += 100)
+            {
+            assertTrue(registry.unregister(anSlots[i], asValues[i]));
+            }
+        assertEquals(Arrays.asList("0", "1000"), collect(registry));
+        }
+
+    @Test
+    public void testSetMethods()
+        {
+        SubscriberRegistry<String> registry = new SubscriberRegistry<>();
+
+        assertTrue(registry.add("a"));
+        assertFalse(registry.add("a"));
+        assertTrue(registry.contains("a"));
+        assertTrue(registry.remove("a"));
+        assertFalse(registry.remove("a"));
+        assertTrue(registry.isEmpty());
+        }
+
+    private static <T> List<T> collect(SubscriberRegistry<T> registry)
+        {
+        List<T> list = new ArrayList<>();
+        registry.forEach(list::add);
+
+        return list;
+        }
+    }